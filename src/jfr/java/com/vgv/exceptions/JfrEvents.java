@@ -0,0 +1,279 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Events sink that commits JDK Flight Recorder events.
+ *
+ * <p>This class is compiled only on JDK 11 or newer and is loaded by
+ * {@link FlightEvents}. Events are created only if they are enabled in
+ * a running recording. Executions and dispatches are durational events
+ * that use the built-in event duration, so the standard {@code threshold}
+ * setting filters them; executions are recorded from 20 ms by default.
+ * Failures are instant events with no threshold.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class JfrEvents implements TryEvents {
+
+    /**
+     * Execution event type.
+     */
+    private static final EventType EXECUTION =
+        EventType.getEventType(JfrEvents.Execution.class);
+
+    /**
+     * Failure event type.
+     */
+    private static final EventType FAILURE =
+        EventType.getEventType(JfrEvents.Failure.class);
+
+    /**
+     * Dispatch event type.
+     */
+    private static final EventType DISPATCH =
+        EventType.getEventType(JfrEvents.Dispatch.class);
+
+    /**
+     * Mapping event type.
+     */
+    private static final EventType MAPPING =
+        EventType.getEventType(JfrEvents.Mapping.class);
+
+    /**
+     * Finally failure event type.
+     */
+    private static final EventType FINALLY =
+        EventType.getEventType(JfrEvents.FinallyFailure.class);
+
+    /**
+     * Events of disabled types.
+     */
+    private static final NoEvents NONE = new NoEvents();
+
+    @Override
+    public TryEvents.Execution execution() {
+        final TryEvents.Execution result;
+        if (JfrEvents.EXECUTION.isEnabled() || JfrEvents.FAILURE.isEnabled()) {
+            final JfrEvents.Execution event = new JfrEvents.Execution();
+            event.begin();
+            result = event;
+        } else {
+            result = JfrEvents.NONE;
+        }
+        return result;
+    }
+
+    @Override
+    public TryEvents.Dispatch dispatch(final String block,
+        final Exception exception, final int distance) {
+        final TryEvents.Dispatch result;
+        if (JfrEvents.DISPATCH.isEnabled()) {
+            final JfrEvents.Dispatch event = new JfrEvents.Dispatch();
+            event.block = block;
+            event.exception = exception.getClass();
+            event.distance = distance;
+            event.begin();
+            result = event;
+        } else {
+            result = JfrEvents.NONE;
+        }
+        return result;
+    }
+
+    @Override
+    public void mapping(final Exception exception, final Exception mapped) {
+        if (JfrEvents.MAPPING.isEnabled()) {
+            final JfrEvents.Mapping event = new JfrEvents.Mapping();
+            event.exception = exception.getClass();
+            event.mapped = mapped.getClass();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void finallyFailure(final Exception exception) {
+        if (JfrEvents.FINALLY.isEnabled()) {
+            final JfrEvents.FinallyFailure event =
+                new JfrEvents.FinallyFailure();
+            event.exception = exception.getClass();
+            event.message = exception.getMessage();
+            event.commit();
+        }
+    }
+
+    /**
+     * Execution of try block.
+     * @checkstyle VisibilityModifierCheck (40 lines)
+     */
+    @Name("com.vgv.exceptions.Execution")
+    @Label("Try Execution")
+    @Category("Exceptions")
+    @Threshold("20 ms")
+    static final class Execution extends Event
+        implements TryEvents.Execution {
+
+        /**
+         * Whether execution failed.
+         */
+        @Label("Failed")
+        boolean failed;
+
+        @Override
+        public void success() {
+            this.end();
+            if (this.shouldCommit()) {
+                this.commit();
+            }
+        }
+
+        @Override
+        public void failure(final Throwable failure, final boolean handled) {
+            this.end();
+            this.failed = true;
+            if (this.shouldCommit()) {
+                this.commit();
+            }
+            final JfrEvents.Failure event = new JfrEvents.Failure();
+            if (event.isEnabled()) {
+                event.exception = failure.getClass();
+                event.handled = handled;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Failure of try block.
+     * @checkstyle VisibilityModifierCheck (20 lines)
+     */
+    @Name("com.vgv.exceptions.Failure")
+    @Label("Try Failure")
+    @Category("Exceptions")
+    static final class Failure extends Event {
+
+        /**
+         * Exception class.
+         */
+        @Label("Exception")
+        Class<?> exception;
+
+        /**
+         * Whether catch blocks support the exception.
+         */
+        @Label("Handled")
+        boolean handled;
+    }
+
+    /**
+     * Dispatch of exception to catch block.
+     * @checkstyle VisibilityModifierCheck (40 lines)
+     */
+    @Name("com.vgv.exceptions.Dispatch")
+    @Label("Catch Dispatch")
+    @Category("Exceptions")
+    static final class Dispatch extends Event implements TryEvents.Dispatch {
+
+        /**
+         * Catch block name.
+         */
+        @Label("Block")
+        String block;
+
+        /**
+         * Exception class.
+         */
+        @Label("Exception")
+        Class<?> exception;
+
+        /**
+         * Distance of catch block to exception class.
+         */
+        @Label("Distance")
+        int distance;
+
+        @Override
+        public void done() {
+            this.end();
+            if (this.shouldCommit()) {
+                this.commit();
+            }
+        }
+    }
+
+    /**
+     * Mapping of exception to another one.
+     * @checkstyle VisibilityModifierCheck (20 lines)
+     */
+    @Name("com.vgv.exceptions.Mapping")
+    @Label("Exception Mapping")
+    @Category("Exceptions")
+    static final class Mapping extends Event {
+
+        /**
+         * Original exception class.
+         */
+        @Label("Exception")
+        Class<?> exception;
+
+        /**
+         * Mapped exception class.
+         */
+        @Label("Mapped")
+        Class<?> mapped;
+    }
+
+    /**
+     * Failure of finally block.
+     * @checkstyle VisibilityModifierCheck (20 lines)
+     */
+    @Name("com.vgv.exceptions.FinallyFailure")
+    @Label("Finally Failure")
+    @Category("Exceptions")
+    static final class FinallyFailure extends Event {
+
+        /**
+         * Exception class.
+         */
+        @Label("Exception")
+        Class<?> exception;
+
+        /**
+         * Exception message.
+         */
+        @Label("Message")
+        String message;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark of {@link TryExecutor} overhead against raw executor.
+ *
+ * <p>Run with {@code mvn -Pjmh verify -Djmh.bench=ExecutorBench}.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutorBench {
+
+    /**
+     * Raw executor.
+     */
+    private ExecutorService raw;
+
+    /**
+     * Decorated executor.
+     */
+    private ExecutorService decorated;
+
+    /**
+     * Start executors.
+     */
+    @Setup
+    public void setup() {
+        this.raw = Executors.newSingleThreadExecutor();
+        this.decorated = new TryExecutor(
+            Executors.newSingleThreadExecutor(),
+            new Try(new Catch(IllegalStateException.class, exp -> { }))
+        );
+    }
+
+    /**
+     * Stop executors.
+     */
+    @TearDown
+    public void tearDown() {
+        this.raw.shutdownNow();
+        this.decorated.shutdownNow();
+    }
+
+    /**
+     * Submit to raw executor.
+     * @return Value
+     * @throws Exception Exception
+     */
+    @Benchmark
+    public Integer raw() throws Exception {
+        return this.raw.submit(() -> 1).get();
+    }
+
+    /**
+     * Submit to decorated executor.
+     * @return Value
+     * @throws Exception Exception
+     */
+    @Benchmark
+    public Integer decorated() throws Exception {
+        return this.decorated.submit(() -> 1).get();
+    }
+}
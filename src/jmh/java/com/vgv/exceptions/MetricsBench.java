@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark of {@link MeteredTry} overhead against plain {@link Try},
+ * measured from all available cores.
+ *
+ * <p>Run with {@code mvn -Pjmh verify -Djmh.bench=MetricsBench}.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class MetricsBench {
+
+    /**
+     * Metrics.
+     */
+    private final TryMetrics metrics = new TryMetrics();
+
+    /**
+     * Plain try block.
+     */
+    private final TryBlock plain = new Try(
+        new Catch(IllegalStateException.class, exp -> { })
+    );
+
+    /**
+     * Metered try block.
+     */
+    private final TryBlock metered = new MeteredTry(
+        new Try(
+            new MeteredCatch(
+                "illegal",
+                new Catch(IllegalStateException.class, exp -> { }),
+                this.metrics
+            )
+        ),
+        this.metrics
+    );
+
+    /**
+     * Execute through plain try block.
+     * @return Value
+     */
+    @Benchmark
+    public int plain() {
+        return this.plain.execInt(() -> 1);
+    }
+
+    /**
+     * Execute through metered try block.
+     * @return Value
+     */
+    @Benchmark
+    public int metered() {
+        return this.metered.execInt(() -> 1);
+    }
+
+    /**
+     * Fail through metered try block.
+     * @return Outcome
+     */
+    @Benchmark
+    public Outcome<Integer> meteredFailure() {
+        return this.metered.attempt(
+            () -> {
+                throw new IllegalStateException();
+            }
+        );
+    }
+}
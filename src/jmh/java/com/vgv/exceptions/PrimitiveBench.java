@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of primitive versus boxed scalar execution.
+ *
+ * <p>Run with {@code mvn -Pjmh verify -Djmh.bench=PrimitiveBench};
+ * the gc profiler reports allocation rate of each benchmark.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveBench {
+
+    /**
+     * Try block.
+     */
+    private final TryBlock block = new Try().with(new Finally(() -> { }));
+
+    /**
+     * Counter outside of the small integer cache.
+     */
+    private long counter = 1_000_000L;
+
+    /**
+     * Boxed execution.
+     * @return Value
+     * @throws Exception Exception
+     */
+    @Benchmark
+    public Long boxed() throws Exception {
+        return this.block.exec(this::next);
+    }
+
+    /**
+     * Primitive execution.
+     * @return Value
+     * @throws Exception Exception
+     */
+    @Benchmark
+    public long primitive() throws Exception {
+        return this.block.execLong(this::next);
+    }
+
+    /**
+     * Next counter value.
+     * @return Value
+     */
+    private long next() {
+        this.counter += 1L;
+        return this.counter;
+    }
+}
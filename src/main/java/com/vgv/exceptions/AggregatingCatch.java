@@ -0,0 +1,261 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Catch block that groups handled exceptions by fingerprint.
+ *
+ * <p>Each exception is fingerprinted by its class, top stack frames and
+ * cause chain and counted in a lock-free group that also keeps the first
+ * exception and the first and last time the group was seen. Then it is
+ * passed to the origin block. Exceptions not supported by the origin block
+ * are ignored. At most the given number of groups is kept; when a new
+ * group arrives at capacity, a cold group is evicted. Groups are queued in
+ * order of creation and a group seen since it was last checked gets
+ * a second chance at the end of the queue, so eviction takes constant
+ * amortized time. Only creation of groups takes a lock; counting into an
+ * existing group is lock-free.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> final AggregatingCatch errors = new AggregatingCatch(
+ *         new Catch(Exception.class, e -> { }), 8, 1000
+ *      );
+ *      new Try(new Catch(IOException.class, ...), errors).exec(...);
+ *      errors.top(10).forEach(grp -> LOGGER.info(grp.toString()));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AggregatingCatch implements CatchBlock {
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Number of top stack frames taken into account.
+     */
+    private final int frames;
+
+    /**
+     * Maximum number of groups.
+     */
+    private final int size;
+
+    /**
+     * Groups by fingerprint.
+     */
+    private final Map<Long, AggregatingCatch.Group> groups;
+
+    /**
+     * Fingerprints in eviction order, guarded by itself.
+     */
+    private final Queue<Long> order;
+
+    /**
+     * Ctor.
+     * @param blk Catch block
+     * @param top Number of top stack frames taken into account
+     * @param max Maximum number of groups
+     */
+    public AggregatingCatch(final CatchBlock blk, final int top,
+        final int max) {
+        this.origin = blk;
+        this.frames = top;
+        this.size = max;
+        this.groups = new ConcurrentHashMap<>(0);
+        this.order = new ArrayDeque<>(0);
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)) {
+            final long print = new Fingerprint(exception, this.frames).value();
+            final AggregatingCatch.Group group = this.groups.get(print);
+            if (group == null) {
+                this.create(print, exception);
+            } else {
+                group.hit();
+            }
+            this.origin.handle(exception);
+        }
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+
+    /**
+     * Snapshot of groups ordered by number of exceptions, highest first.
+     * @param limit Maximum number of groups
+     * @return List of groups
+     */
+    public List<ErrorGroup> top(final int limit) {
+        final List<ErrorGroup> snapshot = new ArrayList<>(this.groups.size());
+        for (final Map.Entry<Long, AggregatingCatch.Group> entry
+            : this.groups.entrySet()) {
+            snapshot.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        snapshot.sort(
+            Comparator.comparingLong(ErrorGroup::count).reversed()
+        );
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    /**
+     * Create group with its first exception, evicting a cold one at
+     * capacity. If the group was created concurrently, count into it.
+     * @param print Fingerprint
+     * @param exception First exception of the group
+     */
+    private void create(final long print, final Exception exception) {
+        synchronized (this.order) {
+            final AggregatingCatch.Group group = this.groups.get(print);
+            if (group == null) {
+                while (this.groups.size() >= this.size
+                    && !this.order.isEmpty()) {
+                    this.evict();
+                }
+                this.groups.put(print, new AggregatingCatch.Group(exception));
+                this.order.add(print);
+            } else {
+                group.hit();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest group that was not seen since it was last
+     * checked, giving seen groups a second chance.
+     */
+    private void evict() {
+        boolean evicted = false;
+        while (!evicted) {
+            final Long print = this.order.remove();
+            if (this.groups.get(print).checked()) {
+                this.groups.remove(print);
+                evicted = true;
+            } else {
+                this.order.add(print);
+            }
+        }
+    }
+
+    /**
+     * Live counters of a group.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Group {
+
+        /**
+         * First exception of the group.
+         */
+        private final Exception sample;
+
+        /**
+         * First time seen in milliseconds.
+         */
+        private final long first;
+
+        /**
+         * Last time seen in milliseconds.
+         */
+        private final AtomicLong recent;
+
+        /**
+         * Number of exceptions.
+         */
+        private final LongAdder count;
+
+        /**
+         * Whether group was seen since it was last checked for eviction.
+         */
+        private final AtomicBoolean seen;
+
+        /**
+         * Ctor.
+         * @param exception First exception of the group, already counted
+         */
+        Group(final Exception exception) {
+            this.sample = exception;
+            this.first = System.currentTimeMillis();
+            this.recent = new AtomicLong(this.first);
+            this.count = new LongAdder();
+            this.count.increment();
+            this.seen = new AtomicBoolean();
+        }
+
+        /**
+         * Count an exception.
+         */
+        public void hit() {
+            this.count.increment();
+            this.recent.lazySet(System.currentTimeMillis());
+            if (!this.seen.get()) {
+                this.seen.lazySet(true);
+            }
+        }
+
+        /**
+         * Check group for eviction and clear its seen mark.
+         * @return Boolean True if group was not seen since last check
+         */
+        public boolean checked() {
+            return !this.seen.getAndSet(false);
+        }
+
+        /**
+         * Immutable snapshot of the group.
+         * @param print Fingerprint
+         * @return ErrorGroup Snapshot
+         */
+        public ErrorGroup snapshot(final long print) {
+            return new ErrorGroup(
+                print, this.sample, this.count.sum(), this.first,
+                this.recent.get()
+            );
+        }
+    }
+}
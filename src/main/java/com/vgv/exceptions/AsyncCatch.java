@@ -0,0 +1,269 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Catch block that handles exceptions on a dedicated thread.
+ *
+ * <p>{@link #handle(Exception)} only puts a supported exception into
+ * a bounded queue and returns, so the exception is rethrown to the caller
+ * without waiting for slow handlers such as log appenders. The consumer
+ * thread is started on first use and passes exceptions to the origin catch
+ * block. When the queue is full the exception is either dropped and
+ * counted, or the caller waits for free room, depending on configuration.
+ * The idle consumer and waiting callers are parked until they are
+ * signalled, so an idle catch block costs no CPU. Failures of the origin
+ * handler cannot reach anybody, so they are only counted.
+ * {@link #close()} handles remaining exceptions and stops the thread;
+ * exceptions given after that are dropped and counted.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> new Try(
+ *         new AsyncCatch(
+ *             new Catch(IOException.class, e -> LOGGER.error("io", e)),
+ *             4096,
+ *             false
+ *         )
+ *      ).exec(() -> entities.get(id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AsyncCatch implements CatchBlock, AutoCloseable {
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Queue of exceptions.
+     */
+    private final RingBuffer<Exception> queue;
+
+    /**
+     * Whether caller waits for free room instead of dropping.
+     */
+    private final boolean wait;
+
+    /**
+     * Number of dropped exceptions.
+     */
+    private final LongAdder drops;
+
+    /**
+     * Number of failures of origin handler.
+     */
+    private final LongAdder errors;
+
+    /**
+     * Consumer thread.
+     */
+    private final AtomicReference<Thread> consumer;
+
+    /**
+     * Whether consumer thread is parked or about to park.
+     */
+    private final AtomicBoolean idle;
+
+    /**
+     * Callers waiting for free room.
+     */
+    private final Queue<Thread> waiters;
+
+    /**
+     * Whether the block is closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param blk Catch block
+     * @param capacity Queue capacity
+     */
+    public AsyncCatch(final CatchBlock blk, final int capacity) {
+        this(blk, capacity, false);
+    }
+
+    /**
+     * Ctor.
+     * @param blk Catch block
+     * @param capacity Queue capacity
+     * @param block Whether caller waits for free room instead of dropping
+     */
+    public AsyncCatch(final CatchBlock blk, final int capacity,
+        final boolean block) {
+        this.origin = blk;
+        this.queue = new RingBuffer<>(capacity);
+        this.wait = block;
+        this.drops = new LongAdder();
+        this.errors = new LongAdder();
+        this.consumer = new AtomicReference<>();
+        this.idle = new AtomicBoolean();
+        this.waiters = new ConcurrentLinkedQueue<>();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)) {
+            boolean added = false;
+            if (!this.closed.get()) {
+                this.start();
+                added = this.queue.offer(exception);
+                if (!added && this.wait) {
+                    added = this.await(exception);
+                }
+            }
+            if (added) {
+                this.signal();
+            } else {
+                this.drops.increment();
+            }
+        }
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+
+    /**
+     * Number of exceptions dropped because the queue was full.
+     * @return Long Number of dropped exceptions
+     */
+    public long dropped() {
+        return this.drops.sum();
+    }
+
+    /**
+     * Number of exceptions whose origin handler failed.
+     * @return Long Number of failed handlings
+     */
+    public long failed() {
+        return this.errors.sum();
+    }
+
+    @Override
+    public void close() {
+        this.closed.set(true);
+        for (final Thread waiter : this.waiters) {
+            LockSupport.unpark(waiter);
+        }
+        final Thread thread = this.consumer.get();
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Start consumer thread unless it is already running.
+     */
+    private void start() {
+        if (this.consumer.get() == null) {
+            final Thread thread = new Thread(this::consume, "async-catch");
+            thread.setDaemon(true);
+            if (this.consumer.compareAndSet(null, thread)) {
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * Wait until exception is put into the queue or the block is closed.
+     * @param exception Exception
+     * @return Boolean True if exception was put into the queue
+     */
+    private boolean await(final Exception exception) {
+        final Thread current = Thread.currentThread();
+        this.waiters.add(current);
+        boolean added = false;
+        try {
+            while (!added && !this.closed.get()) {
+                added = this.queue.offer(exception);
+                if (!added) {
+                    LockSupport.park(this);
+                }
+            }
+        } finally {
+            this.waiters.remove(current);
+        }
+        return added;
+    }
+
+    /**
+     * Wake up consumer thread if it is parked.
+     */
+    private void signal() {
+        if (this.idle.get() && this.idle.compareAndSet(true, false)) {
+            LockSupport.unpark(this.consumer.get());
+        }
+    }
+
+    /**
+     * Pass queued exceptions to origin catch block until closed.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void consume() {
+        while (!this.closed.get() || !this.queue.isEmpty()) {
+            final Exception exception = this.queue.poll();
+            if (exception == null) {
+                this.idle.set(true);
+                if (this.queue.isEmpty() && !this.closed.get()) {
+                    LockSupport.park(this);
+                }
+                this.idle.set(false);
+            } else {
+                for (final Thread waiter : this.waiters) {
+                    LockSupport.unpark(waiter);
+                }
+                try {
+                    this.origin.handle(exception);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final RuntimeException failure) {
+                    this.errors.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Finally block executed in the background.
+ *
+ * <p>{@link #exec()} hands the origin block to an executor and returns
+ * immediately. Failures of the origin block are handled by the report
+ * catch block; failures it does not support are passed to the uncaught
+ * exception handler of the executing thread.
+ *
+ * <p>This class is thread safe if executor is thread safe.
+ *
+ * <pre> new Try().with(
+ *         new AsyncFinally(
+ *             () -> audit.write(id),
+ *             executor,
+ *             new Catch(IOException.class, e -> LOGGER.warn("audit", e))
+ *         )
+ *      ).exec(() -> entities.get(id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AsyncFinally implements FinallyBlock {
+
+    /**
+     * Finally block origin.
+     */
+    private final FinallyBlock origin;
+
+    /**
+     * Executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Catch block that handles failures of origin block.
+     */
+    private final CatchBlock report;
+
+    /**
+     * Ctor.
+     * @param block Finally block
+     * @param exec Executor
+     * @param rpt Catch block that handles failures of origin block
+     */
+    public AsyncFinally(final FinallyBlock block, final Executor exec,
+        final CatchBlock rpt) {
+        this.origin = block;
+        this.executor = exec;
+        this.report = rpt;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void exec() {
+        this.executor.execute(
+            () -> {
+                try {
+                    this.origin.exec();
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception exception) {
+                    if (this.report.supports(exception)) {
+                        this.report.handle(exception);
+                    } else {
+                        final Thread thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler()
+                            .uncaughtException(thread, exception);
+                    }
+                }
+            }
+        );
+    }
+}
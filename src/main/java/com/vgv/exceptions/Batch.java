@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.List;
+
+/**
+ * Result of batch execution: values of successful scalars in their
+ * original order and a report of failed ones.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class Batch<T> {
+
+    /**
+     * Values of successful scalars.
+     */
+    private final List<T> vals;
+
+    /**
+     * Failed scalars.
+     */
+    private final Failures fails;
+
+    /**
+     * Ctor.
+     * @param values Values of successful scalars
+     * @param failures Failed scalars
+     */
+    public Batch(final List<T> values, final Failures failures) {
+        this.vals = values;
+        this.fails = failures;
+    }
+
+    /**
+     * Values of successful scalars.
+     * @return List Values
+     */
+    public List<T> values() {
+        return this.vals;
+    }
+
+    /**
+     * Failed scalars.
+     * @return Failures Failures
+     */
+    public Failures failures() {
+        return this.fails;
+    }
+}
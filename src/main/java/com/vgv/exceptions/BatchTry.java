@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Exception control over a batch of scalars.
+ *
+ * <p>All scalars are executed through the same catch blocks. In
+ * collect-all mode ({@link #exec(Iterable)}) every scalar is executed and
+ * failures are reported in {@link Batch}. In fail-fast mode
+ * ({@link #execOrFail(Iterable)}) execution stops on the first failure,
+ * which is handled and rethrown. Catch blocks can be configured to handle
+ * only the first failure of each exception class in a batch.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class BatchTry {
+
+    /**
+     * Catch blocks.
+     */
+    private final CatchBlocks blocks;
+
+    /**
+     * Whether only first failure of each exception class is handled.
+     */
+    private final boolean once;
+
+    /**
+     * Ctor.
+     * @param blks List of catch blocks
+     */
+    public BatchTry(final CatchBlock... blks) {
+        this(new MultiCatch(blks));
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     */
+    public BatchTry(final CatchBlocks blks) {
+        this(blks, false);
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param first Handle only first failure of each exception class
+     */
+    public BatchTry(final CatchBlocks blks, final boolean first) {
+        this.blocks = blks;
+        this.once = first;
+    }
+
+    /**
+     * Execute all scalars and collect failures.
+     * @param scalars Scalars
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Batch Values and failures
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T, E extends Exception> Batch<T> exec(
+        final Iterable<? extends ThrowableScalar<T, E>> scalars) {
+        final List<T> values = new ArrayList<>();
+        final Failures failures = new Failures();
+        final Set<Class<?>> handled = new HashSet<>();
+        int idx = 0;
+        for (final ThrowableScalar<T, E> scalar : scalars) {
+            try {
+                values.add(scalar.value());
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                if (!this.once || handled.add(exception.getClass())) {
+                    this.blocks.handle(exception);
+                }
+                failures.add(idx, exception);
+            }
+            idx += 1;
+        }
+        return new Batch<>(values, failures);
+    }
+
+    /**
+     * Execute scalars until the first failure, which is handled and
+     * rethrown.
+     * @param scalars Scalars
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return List Values
+     * @throws E Exception
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T, E extends Exception> List<T> execOrFail(
+        final Iterable<? extends ThrowableScalar<T, E>> scalars) throws E {
+        final List<T> values = new ArrayList<>();
+        for (final ThrowableScalar<T, E> scalar : scalars) {
+            try {
+                values.add(scalar.value());
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                this.blocks.handle(exception);
+                throw exception;
+            }
+        }
+        return values;
+    }
+}
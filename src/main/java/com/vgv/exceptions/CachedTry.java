@@ -0,0 +1,308 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.list.ListOf;
+
+/**
+ * Try block that caches scalar results per key.
+ *
+ * <p>Values live for a given time to live and the cache holds at most
+ * a given number of keys, evicting the least recently used one.
+ * When a refresh of an expired value fails with an exception supported by
+ * the stale catch block, the exception is handled by that block and the
+ * last good value is returned. While the value is served stale, each
+ * access starts a background refresh unless one is already running, so
+ * the refresh is retried only as often as the key is requested. A value
+ * is served stale for at most a given time after it expired, time to live
+ * by default, after which refresh failures go through again.
+ *
+ * <p>Loading is not coalesced: concurrent callers that miss the same key,
+ * or find its value expired and not served stale, each execute their
+ * scalar and the last one stores its value.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> new CachedTry&lt;String, Entity&gt;(
+ *         new Try(new Catch(IOException.class, e -> LOGGER.error("io", e))),
+ *         Duration.ofMinutes(1L),
+ *         1000,
+ *         new Catch(IOException.class, e -> LOGGER.warn("serving stale"))
+ *      ).exec(id, () -> entities.get(id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <K> Key
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class CachedTry<K, T> implements KeyedTryBlock<K, T> {
+
+    /**
+     * Try block origin.
+     */
+    private final TryBlock origin;
+
+    /**
+     * Time to live in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Catch block that allows serving of stale values.
+     */
+    private final CatchBlock stale;
+
+    /**
+     * Maximum time in nanoseconds a value is served after it expired.
+     */
+    private final long grace;
+
+    /**
+     * Executor of background refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * Cached entries.
+     */
+    private final Map<K, CachedTry.Entry<T>> entries;
+
+    /**
+     * Ctor.
+     * @param block Try block
+     * @param live Time to live
+     * @param size Maximum number of cached keys
+     */
+    public CachedTry(final TryBlock block, final Duration live,
+        final int size) {
+        this(block, live, size, new Catch(new ListOf<>(), exp -> { }));
+    }
+
+    /**
+     * Ctor.
+     * @param block Try block
+     * @param live Time to live
+     * @param size Maximum number of cached keys
+     * @param blk Catch block that allows serving of stale values
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public CachedTry(final TryBlock block, final Duration live,
+        final int size, final CatchBlock blk) {
+        this(block, live, size, blk, live, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param block Try block
+     * @param live Time to live
+     * @param size Maximum number of cached keys
+     * @param blk Catch block that allows serving of stale values
+     * @param max Maximum time a value is served after it expired
+     * @param exec Executor of background refreshes
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public CachedTry(final TryBlock block, final Duration live,
+        final int size, final CatchBlock blk, final Duration max,
+        final Executor exec) {
+        this.origin = block;
+        this.ttl = live.toNanos();
+        this.stale = blk;
+        this.grace = max.toNanos();
+        this.executor = exec;
+        this.entries = Collections.synchronizedMap(
+            new LruMap<>(size)
+        );
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> T exec(final K key,
+        final ThrowableScalar<T, E> scalar) throws E {
+        final CachedTry.Entry<T> cached = this.entries.get(key);
+        final T result;
+        if (cached != null && cached.fresh()) {
+            result = cached.value();
+        } else if (cached != null && cached.degraded()
+            && cached.servable(this.grace)) {
+            this.refresh(key, scalar, cached);
+            result = cached.value();
+        } else {
+            try {
+                result = this.origin.exec(scalar);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                if (cached == null || !cached.servable(this.grace)
+                    || !this.stale.supports(exception)) {
+                    throw exception;
+                }
+                this.stale.handle(exception);
+                cached.degrade();
+                this.refresh(key, scalar, cached);
+                return cached.value();
+            }
+            this.entries.put(key, new CachedTry.Entry<>(result, this.ttl));
+        }
+        return result;
+    }
+
+    /**
+     * Refresh degraded entry in the background, unless refresh is
+     * already in progress. Refreshed value does not replace an entry that
+     * was stored in the meantime.
+     * @param key Key
+     * @param scalar Scalar
+     * @param cached Degraded entry
+     * @param <E> Exception
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <E extends Exception> void refresh(final K key,
+        final ThrowableScalar<T, E> scalar, final CachedTry.Entry<T> cached) {
+        if (cached.lock()) {
+            try {
+                this.executor.execute(
+                    () -> {
+                        try {
+                            this.entries.replace(
+                                key,
+                                cached,
+                                new CachedTry.Entry<>(
+                                    this.origin.exec(scalar), this.ttl
+                                )
+                            );
+                            // @checkstyle IllegalCatchCheck (1 line)
+                        } catch (final Exception exception) {
+                            cached.unlock();
+                        }
+                    }
+                );
+            } catch (final RejectedExecutionException ex) {
+                cached.unlock();
+            }
+        }
+    }
+
+    /**
+     * Cached value.
+     *
+     * <p>This class is thread safe.
+     * @param <T> Value
+     */
+    private static final class Entry<T> {
+
+        /**
+         * Value.
+         */
+        private final T val;
+
+        /**
+         * Expiration time in nanoseconds.
+         */
+        private final long expires;
+
+        /**
+         * Whether last refresh failed.
+         */
+        private final AtomicBoolean failed;
+
+        /**
+         * Whether background refresh is in progress.
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * Ctor.
+         * @param value Value
+         * @param live Time to live in nanoseconds
+         */
+        Entry(final T value, final long live) {
+            this.val = value;
+            this.expires = System.nanoTime() + live;
+            this.failed = new AtomicBoolean();
+            this.refreshing = new AtomicBoolean();
+        }
+
+        /**
+         * Value.
+         * @return T Value
+         */
+        public T value() {
+            return this.val;
+        }
+
+        /**
+         * Check if value has not expired.
+         * @return Boolean Boolean
+         */
+        public boolean fresh() {
+            return System.nanoTime() - this.expires < 0L;
+        }
+
+        /**
+         * Check if value expired at most a given time ago.
+         * @param max Maximum time in nanoseconds since expiration
+         * @return Boolean Boolean
+         */
+        public boolean servable(final long max) {
+            return System.nanoTime() - this.expires - max < 0L;
+        }
+
+        /**
+         * Check if value is served stale.
+         * @return Boolean Boolean
+         */
+        public boolean degraded() {
+            return this.failed.get();
+        }
+
+        /**
+         * Mark value as served stale.
+         */
+        public void degrade() {
+            this.failed.set(true);
+        }
+
+        /**
+         * Acquire refresh lock.
+         * @return Boolean True if lock was acquired
+         */
+        public boolean lock() {
+            return this.refreshing.compareAndSet(false, true);
+        }
+
+        /**
+         * Release refresh lock.
+         */
+        public void unlock() {
+            this.refreshing.set(false);
+        }
+    }
+}
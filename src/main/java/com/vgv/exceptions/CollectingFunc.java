@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Stream mapping that moves elements whose function fails with
+ * an exception supported by catch blocks to a side channel, such as
+ * {@link Rejects}.
+ *
+ * <p>Use it with {@link Stream#flatMap(Function)}. The function is
+ * executed by a {@link Try}; exceptions supported by its catch blocks are
+ * handled and recorded together with the element, other exceptions go
+ * through, checked ones wrapped as by {@link UncheckedTry}.
+ *
+ * <p>This class is thread safe if catch blocks and side channel are
+ * thread safe. In parallel streams catch blocks are called concurrently
+ * from all worker threads.
+ *
+ * <pre> final Rejects&lt;String&gt; rejects = new Rejects&lt;&gt;();
+ * final List&lt;Record&gt; records = lines.parallelStream().flatMap(
+ *     new CollectingFunc&lt;&gt;(
+ *         new MultiCatch(new Catch(ParseException.class, e -> { })),
+ *         parser::parse,
+ *         rejects
+ *     )
+ * ).collect(Collectors.toList());
+ * rejects.merged().forEach(...);
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <X> Input
+ * @param <T> Output
+ * @since 1.0
+ */
+public final class CollectingFunc<X, T> implements Function<X, Stream<T>> {
+
+    /**
+     * Exception control of the function.
+     */
+    private final Try policy;
+
+    /**
+     * Function.
+     */
+    private final ThrowableFunc<X, T, ?> func;
+
+    /**
+     * Side channel of rejected elements.
+     */
+    private final BiConsumer<? super X, Exception> rejects;
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param fun Function
+     * @param rjcts Side channel of rejected elements
+     */
+    public CollectingFunc(final CatchBlocks blks,
+        final ThrowableFunc<X, T, ?> fun,
+        final BiConsumer<? super X, Exception> rjcts) {
+        this(new Try(blks), fun, rjcts);
+    }
+
+    /**
+     * Ctor.
+     * @param tri Exception control of the function
+     * @param fun Function
+     * @param rjcts Side channel of rejected elements
+     */
+    public CollectingFunc(final Try tri, final ThrowableFunc<X, T, ?> fun,
+        final BiConsumer<? super X, Exception> rjcts) {
+        this.policy = tri;
+        this.func = fun;
+        this.rejects = rjcts;
+    }
+
+    @Override
+    public Stream<T> apply(final X input) {
+        final Outcome<T> outcome = this.policy.handled(
+            () -> this.func.apply(input)
+        );
+        final Stream<T> result;
+        if (outcome.success()) {
+            result = Stream.of(outcome.orElse(null));
+        } else {
+            final Exception exception = outcome.failure().get();
+            this.rejects.accept(input, exception);
+            result = Stream.empty();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Exception rebuilt from its binary form.
+ *
+ * <p>Keeps the name of the original exception class, its message, stack
+ * trace, cause and suppressed exceptions. It prints like the original
+ * exception.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class DecodedException extends Exception {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x7e6a6e3c1d4f2b01L;
+
+    /**
+     * Original exception class name.
+     */
+    private final String clazz;
+
+    /**
+     * Ctor.
+     * @param name Original exception class name
+     * @param message Message
+     */
+    public DecodedException(final String name, final String message) {
+        super(message);
+        this.clazz = name;
+    }
+
+    /**
+     * Original exception class name.
+     * @return String Class name
+     */
+    public String className() {
+        return this.clazz;
+    }
+
+    @Override
+    public String toString() {
+        final String message = this.getLocalizedMessage();
+        final String result;
+        if (message == null) {
+            result = this.clazz;
+        } else {
+            result = String.format("%s: %s", this.clazz, message);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of exceptions that share a fingerprint.
+ *
+ * <p>This class is immutable and thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ErrorGroup {
+
+    /**
+     * Fingerprint.
+     */
+    private final long print;
+
+    /**
+     * First exception of the group.
+     */
+    private final Exception sample;
+
+    /**
+     * Number of exceptions.
+     */
+    private final long total;
+
+    /**
+     * First time seen in milliseconds.
+     */
+    private final long seen;
+
+    /**
+     * Last time seen in milliseconds.
+     */
+    private final long recent;
+
+    /**
+     * Ctor.
+     * @param fingerprint Fingerprint
+     * @param exception First exception of the group
+     * @param count Number of exceptions
+     * @param first First time seen in epoch milliseconds
+     * @param last Last time seen in epoch milliseconds
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ErrorGroup(final long fingerprint, final Exception exception,
+        final long count, final long first, final long last) {
+        this.print = fingerprint;
+        this.sample = exception;
+        this.total = count;
+        this.seen = first;
+        this.recent = last;
+    }
+
+    /**
+     * Fingerprint.
+     * @return Long Fingerprint
+     */
+    public long fingerprint() {
+        return this.print;
+    }
+
+    /**
+     * First exception of the group.
+     * @return Exception Exception
+     */
+    public Exception exception() {
+        return this.sample;
+    }
+
+    /**
+     * Number of exceptions.
+     * @return Long Number of exceptions
+     */
+    public long count() {
+        return this.total;
+    }
+
+    /**
+     * First time seen.
+     * @return Instant Instant
+     */
+    public Instant first() {
+        return Instant.ofEpochMilli(this.seen);
+    }
+
+    /**
+     * Last time seen.
+     * @return Instant Instant
+     */
+    public Instant last() {
+        return Instant.ofEpochMilli(this.recent);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%016x %s x %d", this.print,
+            this.sample.getClass().getSimpleName(), this.total
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Outcome of failed execution.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class Failure<T> implements Outcome<T> {
+
+    /**
+     * Exception.
+     */
+    private final Exception error;
+
+    /**
+     * Ctor.
+     * @param exception Exception
+     */
+    public Failure(final Exception exception) {
+        this.error = exception;
+    }
+
+    @Override
+    public boolean success() {
+        return false;
+    }
+
+    @Override
+    public T value() throws Exception {
+        throw this.error;
+    }
+
+    @Override
+    public T orElse(final T other) {
+        return other;
+    }
+
+    @Override
+    public Optional<Exception> failure() {
+        return Optional.of(this.error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Outcome<R> map(final Function<? super T, ? extends R> fun) {
+        return (Outcome<R>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Outcome<R> flatMap(
+        final Function<? super T, Outcome<R>> fun) {
+        return (Outcome<R>) this;
+    }
+
+    @Override
+    public Outcome<T> recover(final Function<Exception, ? extends T> fun) {
+        return Success.of(fun.apply(this.error));
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import org.cactoos.list.ListOf;
+
+/**
+ * Keyed try block that remembers failures per key.
+ *
+ * <p>When a scalar fails with an exception selected by one of the
+ * {@link Remember} rules, the exception is handled by the rule's catch
+ * block and stored for the rule's time to live. Until it expires, further
+ * executions for the same key throw a new {@link RememberedException}
+ * caused by the stored exception, without executing the scalar. The rule
+ * with the closest inheritance distance wins, as in {@link MultiCatch}.
+ * The cache holds at most a given number of keys, evicting the least
+ * recently used one.
+ *
+ * <p>The stored exception is never thrown again itself, so callers can't
+ * modify it for each other, and a checked exception can't escape a caller
+ * that expects another one.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> new FailureCache&lt;String, Entity&gt;(
+ *         new Try(new Catch(IOException.class, e -> LOGGER.error("io", e))),
+ *         1000,
+ *         new Remember(NotFoundException.class, Duration.ofSeconds(30L)),
+ *         new Remember(ValidationException.class, Duration.ofMinutes(5L))
+ *      ).exec(id, () -> entities.get(id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <K> Key
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class FailureCache<K, T> implements KeyedTryBlock<K, T> {
+
+    /**
+     * Keyed try block origin.
+     */
+    private final KeyedTryBlock<K, T> origin;
+
+    /**
+     * Rules that select remembered failures.
+     */
+    private final Iterable<Remember> rules;
+
+    /**
+     * Remembered failures.
+     */
+    private final Map<K, FailureCache.Remembered> failures;
+
+    /**
+     * Ctor.
+     * @param block Try block
+     * @param size Maximum number of remembered keys
+     * @param rls Rules that select remembered failures
+     */
+    public FailureCache(final TryBlock block, final int size,
+        final Remember... rls) {
+        this(new KeyedTry<>(block), size, new ListOf<>(rls));
+    }
+
+    /**
+     * Ctor.
+     * @param block Keyed try block
+     * @param size Maximum number of remembered keys
+     * @param rls Rules that select remembered failures
+     */
+    public FailureCache(final KeyedTryBlock<K, T> block, final int size,
+        final Iterable<Remember> rls) {
+        this.origin = block;
+        this.rules = rls;
+        this.failures = Collections.synchronizedMap(new LruMap<>(size));
+    }
+
+    @Override
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.AvoidRethrowingException"
+        }
+    )
+    public <E extends Exception> T exec(final K key,
+        final ThrowableScalar<T, E> scalar) throws E {
+        final FailureCache.Remembered cached = this.failures.get(key);
+        if (cached != null) {
+            if (cached.fresh()) {
+                throw new RememberedException(cached.exception());
+            }
+            this.failures.remove(key, cached);
+        }
+        try {
+            return this.origin.exec(key, scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            final Optional<Remember> rule = this.rule(exception);
+            if (rule.isPresent()) {
+                rule.get().block().handle(exception);
+                this.failures.put(
+                    key,
+                    new FailureCache.Remembered(exception, rule.get().nanos())
+                );
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Rule with the closest inheritance distance that supports exception.
+     * @param exception Exception
+     * @return Rule Rule
+     */
+    private Optional<Remember> rule(final Exception exception) {
+        return new ListOf<>(this.rules).stream()
+            .filter(rule -> rule.block().supports(exception))
+            .min(
+                Comparator.comparing(
+                    rule -> rule.block().distance(exception)
+                )
+            );
+    }
+
+    /**
+     * Remembered failure.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Remembered {
+
+        /**
+         * Exception.
+         */
+        private final Exception error;
+
+        /**
+         * Expiration time in nanoseconds.
+         */
+        private final long expires;
+
+        /**
+         * Ctor.
+         * @param exception Exception
+         * @param live Time to live in nanoseconds
+         */
+        Remembered(final Exception exception, final long live) {
+            this.error = exception;
+            this.expires = System.nanoTime() + live;
+        }
+
+        /**
+         * Exception.
+         * @return Exception Exception
+         */
+        public Exception exception() {
+            return this.error;
+        }
+
+        /**
+         * Check if failure has not expired.
+         * @return Boolean Boolean
+         */
+        public boolean fresh() {
+            return System.nanoTime() - this.expires < 0L;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Instant;
+
+/**
+ * Handled failure recorded by {@link FailureRing}.
+ *
+ * <p>This class is immutable and thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FailureRecord {
+
+    /**
+     * Time in epoch milliseconds.
+     */
+    private final long millis;
+
+    /**
+     * Exception class name.
+     */
+    private final String clazz;
+
+    /**
+     * Exception message.
+     */
+    private final String msg;
+
+    /**
+     * Catch block name.
+     */
+    private final String block;
+
+    /**
+     * Thread name.
+     */
+    private final String thrd;
+
+    /**
+     * Stack trace, empty if not sampled.
+     */
+    private final String stack;
+
+    /**
+     * Ctor.
+     * @param time Time in epoch milliseconds
+     * @param exception Exception class name
+     * @param message Exception message
+     * @param handler Catch block name
+     * @param thread Thread name
+     * @param trace Stack trace, empty if not sampled
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public FailureRecord(final long time, final String exception,
+        final String message, final String handler, final String thread,
+        final String trace) {
+        this.millis = time;
+        this.clazz = exception;
+        this.msg = message;
+        this.block = handler;
+        this.thrd = thread;
+        this.stack = trace;
+    }
+
+    /**
+     * Time of failure.
+     * @return Instant Instant
+     */
+    public Instant time() {
+        return Instant.ofEpochMilli(this.millis);
+    }
+
+    /**
+     * Exception class name.
+     * @return String Class name
+     */
+    public String exception() {
+        return this.clazz;
+    }
+
+    /**
+     * Exception message.
+     * @return String Message, empty if exception has none
+     */
+    public String message() {
+        return this.msg;
+    }
+
+    /**
+     * Name of catch block that handled the failure.
+     * @return String Catch block name
+     */
+    public String handler() {
+        return this.block;
+    }
+
+    /**
+     * Name of thread that failed.
+     * @return String Thread name
+     */
+    public String thread() {
+        return this.thrd;
+    }
+
+    /**
+     * Stack trace.
+     * @return String Stack trace, empty if it was not sampled
+     */
+    public String trace() {
+        return this.stack;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s [%s] %s %s: %s%n%s", this.time(), this.thrd, this.block,
+            this.clazz, this.msg, this.stack
+        );
+    }
+}
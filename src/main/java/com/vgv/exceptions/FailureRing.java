@@ -0,0 +1,408 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free ring buffer of the most recent handled failures.
+ *
+ * <p>Failures are recorded by {@link RecordingCatch}. Each record keeps
+ * time, exception class, message, catch block name and thread name; the
+ * stack trace is kept only for every n-th record. Records are kept either
+ * on heap or in a direct buffer of fixed-size slots, in which case
+ * strings are truncated to slot fields on a character boundary and a
+ * record whose slot is being written concurrently by a lapping writer is
+ * dropped. A writer that was lapped never overwrites a newer record.
+ * {@link #dump()} reads the records without stopping writers.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FailureRing {
+
+    /**
+     * Maximum number of stack frames in sampled traces.
+     */
+    private static final int FRAMES = 16;
+
+    /**
+     * Record slots.
+     */
+    private final FailureRing.Slots slots;
+
+    /**
+     * Number of slots.
+     */
+    private final int size;
+
+    /**
+     * Stack trace sampling rate, zero to never keep stack traces.
+     */
+    private final long sampling;
+
+    /**
+     * Next record sequence.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Ctor.
+     * @param capacity Number of kept records
+     * @param sample Keep stack trace of every n-th record, zero for none
+     */
+    public FailureRing(final int capacity, final int sample) {
+        this(capacity, sample, false);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Number of kept records
+     * @param sample Keep stack trace of every n-th record, zero for none
+     * @param direct Whether to keep records off heap
+     * @throws IllegalArgumentException If capacity is not positive
+     */
+    public FailureRing(final int capacity, final int sample,
+        final boolean direct) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity %d is not positive", capacity)
+            );
+        }
+        if (direct) {
+            this.slots = new FailureRing.Direct(capacity);
+        } else {
+            this.slots = new FailureRing.Heap(capacity);
+        }
+        this.size = capacity;
+        this.sampling = sample;
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Records from oldest to newest.
+     * @return List of records
+     */
+    public List<FailureRecord> dump() {
+        final long end = this.sequence.get();
+        final List<FailureRecord> records = new ArrayList<>(this.size);
+        for (long seq = Math.max(0L, end - this.size); seq < end; ++seq) {
+            this.slots.read(seq, records);
+        }
+        return records;
+    }
+
+    /**
+     * Record failure.
+     * @param handler Catch block name
+     * @param exception Exception
+     */
+    void record(final String handler, final Exception exception) {
+        final long seq = this.sequence.getAndIncrement();
+        final String trace;
+        if (this.sampling > 0L && seq % this.sampling == 0L) {
+            trace = FailureRing.trace(exception);
+        } else {
+            trace = "";
+        }
+        String message = exception.getMessage();
+        if (message == null) {
+            message = "";
+        }
+        this.slots.write(
+            seq,
+            new FailureRecord(
+                System.currentTimeMillis(), exception.getClass().getName(),
+                message, handler, Thread.currentThread().getName(), trace
+            )
+        );
+    }
+
+    /**
+     * Top stack frames of exception.
+     * @param exception Exception
+     * @return String Stack trace
+     */
+    private static String trace(final Exception exception) {
+        final StackTraceElement[] frames = exception.getStackTrace();
+        final StringBuilder text = new StringBuilder(0);
+        final int count = Math.min(FailureRing.FRAMES, frames.length);
+        for (int idx = 0; idx < count; ++idx) {
+            text.append("\tat ").append(frames[idx]).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Storage of records.
+     */
+    private interface Slots {
+
+        /**
+         * Write record.
+         * @param seq Record sequence
+         * @param rec Record
+         */
+        void write(long seq, FailureRecord rec);
+
+        /**
+         * Read record if it was not overwritten.
+         * @param seq Record sequence
+         * @param out Records to add to
+         */
+        void read(long seq, List<FailureRecord> out);
+    }
+
+    /**
+     * Records on heap.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Heap implements FailureRing.Slots {
+
+        /**
+         * Slots.
+         */
+        private final AtomicReferenceArray<FailureRing.Entry> entries;
+
+        /**
+         * Ctor.
+         * @param capacity Number of slots
+         */
+        Heap(final int capacity) {
+            this.entries = new AtomicReferenceArray<>(capacity);
+        }
+
+        @Override
+        public void write(final long seq, final FailureRecord rec) {
+            final int slot = (int) (seq % this.entries.length());
+            final FailureRing.Entry entry = new FailureRing.Entry(seq, rec);
+            FailureRing.Entry current = this.entries.get(slot);
+            while ((current == null || current.seq < seq)
+                && !this.entries.compareAndSet(slot, current, entry)) {
+                current = this.entries.get(slot);
+            }
+        }
+
+        @Override
+        public void read(final long seq, final List<FailureRecord> out) {
+            final FailureRing.Entry entry =
+                this.entries.get((int) (seq % this.entries.length()));
+            if (entry != null && entry.seq == seq) {
+                out.add(entry.rec);
+            }
+        }
+    }
+
+    /**
+     * Record with its sequence.
+     *
+     * <p>This class is immutable and thread safe.
+     */
+    private static final class Entry {
+
+        /**
+         * Record sequence.
+         */
+        private final long seq;
+
+        /**
+         * Record.
+         */
+        private final FailureRecord rec;
+
+        /**
+         * Ctor.
+         * @param sequence Record sequence
+         * @param record Record
+         */
+        Entry(final long sequence, final FailureRecord record) {
+            this.seq = sequence;
+            this.rec = record;
+        }
+    }
+
+    /**
+     * Records in a direct buffer of fixed-size slots.
+     *
+     * <p>Each slot has a stamp: zero if empty, minus one while being
+     * written, otherwise sequence of the record plus one. A writer takes
+     * the slot only if its stamp is older than its record. Readers check
+     * the stamp before reading a slot and confirm it afterwards with a
+     * compare-and-set to the same value. Unlike a plain volatile read,
+     * the compare-and-set is a volatile write, so slot reads cannot move
+     * past it, and a writer that lapped the reader either makes it fail
+     * or starts writing only after it.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Direct implements FailureRing.Slots {
+
+        /**
+         * Stamp of slot being written.
+         */
+        private static final long BUSY = -1L;
+
+        /**
+         * Sizes of string fields in bytes: exception class, message,
+         * handler, thread and stack trace.
+         */
+        private static final int[] FIELDS = {192, 512, 64, 64, 2048};
+
+        /**
+         * Slot size in bytes.
+         */
+        private static final int SLOT = FailureRing.Direct.slot();
+
+        /**
+         * Slot contents.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Slot stamps.
+         */
+        private final AtomicLongArray stamps;
+
+        /**
+         * Ctor.
+         * @param capacity Number of slots
+         */
+        Direct(final int capacity) {
+            if (capacity > Integer.MAX_VALUE / FailureRing.Direct.SLOT) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Capacity %d exceeds %d records of direct ring",
+                        capacity, Integer.MAX_VALUE / FailureRing.Direct.SLOT
+                    )
+                );
+            }
+            this.buffer = ByteBuffer.allocateDirect(
+                capacity * FailureRing.Direct.SLOT
+            );
+            this.stamps = new AtomicLongArray(capacity);
+        }
+
+        @Override
+        public void write(final long seq, final FailureRecord rec) {
+            final int slot = (int) (seq % this.stamps.length());
+            final long stamp = this.stamps.get(slot);
+            if (stamp != FailureRing.Direct.BUSY && stamp <= seq
+                && this.stamps.compareAndSet(
+                    slot, stamp, FailureRing.Direct.BUSY
+                )) {
+                final ByteBuffer buf = this.buffer.duplicate();
+                buf.position(slot * FailureRing.Direct.SLOT);
+                buf.putLong(rec.time().toEpochMilli());
+                final String[] values = {
+                    rec.exception(), rec.message(), rec.handler(),
+                    rec.thread(), rec.trace(),
+                };
+                for (int idx = 0; idx < values.length; ++idx) {
+                    final byte[] bytes = values[idx]
+                        .getBytes(StandardCharsets.UTF_8);
+                    final int length = FailureRing.Direct.truncated(
+                        bytes, FailureRing.Direct.FIELDS[idx]
+                    );
+                    final int start = buf.position();
+                    buf.putInt(length);
+                    buf.put(bytes, 0, length);
+                    buf.position(
+                        start + Integer.BYTES + FailureRing.Direct.FIELDS[idx]
+                    );
+                }
+                this.stamps.set(slot, seq + 1L);
+            }
+        }
+
+        @Override
+        public void read(final long seq, final List<FailureRecord> out) {
+            final int slot = (int) (seq % this.stamps.length());
+            if (this.stamps.get(slot) == seq + 1L) {
+                final ByteBuffer buf = this.buffer.duplicate();
+                buf.position(slot * FailureRing.Direct.SLOT);
+                final long time = buf.getLong();
+                final String[] values =
+                    new String[FailureRing.Direct.FIELDS.length];
+                for (int idx = 0; idx < values.length; ++idx) {
+                    final int start = buf.position();
+                    final byte[] bytes = new byte[Math.min(
+                        Math.max(buf.getInt(), 0),
+                        FailureRing.Direct.FIELDS[idx]
+                    )];
+                    buf.get(bytes);
+                    values[idx] = new String(bytes, StandardCharsets.UTF_8);
+                    buf.position(
+                        start + Integer.BYTES + FailureRing.Direct.FIELDS[idx]
+                    );
+                }
+                if (this.stamps.compareAndSet(slot, seq + 1L, seq + 1L)) {
+                    out.add(
+                        new FailureRecord(
+                            time, values[0], values[1], values[2], values[3],
+                            values[4]
+                        )
+                    );
+                }
+            }
+        }
+
+        /**
+         * Length of UTF-8 bytes truncated to field size without splitting
+         * a character.
+         * @param bytes UTF-8 bytes
+         * @param field Field size in bytes
+         * @return Int Length
+         */
+        private static int truncated(final byte[] bytes, final int field) {
+            int length = Math.min(bytes.length, field);
+            while (length > 0 && length < bytes.length
+                && (bytes[length] & 0xC0) == 0x80) {
+                --length;
+            }
+            return length;
+        }
+
+        /**
+         * Slot size in bytes.
+         * @return Int Slot size
+         */
+        private static int slot() {
+            int total = Long.BYTES;
+            for (final int field : FailureRing.Direct.FIELDS) {
+                total += Integer.BYTES + field;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Arrays;
+
+/**
+ * Compact report of failed executions: positions of failed scalars and
+ * their exceptions, kept in plain arrays.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class Failures {
+
+    /**
+     * Initial capacity.
+     */
+    private static final int CAPACITY = 8;
+
+    /**
+     * Positions of failed scalars.
+     */
+    private int[] indexes;
+
+    /**
+     * Exceptions of failed scalars.
+     */
+    private Exception[] exceptions;
+
+    /**
+     * Number of failures.
+     */
+    private int count;
+
+    /**
+     * Ctor.
+     */
+    public Failures() {
+        this.indexes = new int[Failures.CAPACITY];
+        this.exceptions = new Exception[Failures.CAPACITY];
+    }
+
+    /**
+     * Number of failures.
+     * @return Int Number of failures
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Position of failed scalar.
+     * @param pos Failure number
+     * @return Int Position of failed scalar
+     */
+    public int index(final int pos) {
+        this.check(pos);
+        return this.indexes[pos];
+    }
+
+    /**
+     * Exception of failed scalar.
+     * @param pos Failure number
+     * @return Exception Exception
+     */
+    public Exception exception(final int pos) {
+        this.check(pos);
+        return this.exceptions[pos];
+    }
+
+    /**
+     * Record failure.
+     * @param index Position of failed scalar
+     * @param exception Exception
+     */
+    void add(final int index, final Exception exception) {
+        if (this.count == this.indexes.length) {
+            this.indexes = Arrays.copyOf(this.indexes, this.count * 2);
+            this.exceptions = Arrays.copyOf(
+                this.exceptions, this.count * 2
+            );
+        }
+        this.indexes[this.count] = index;
+        this.exceptions[this.count] = exception;
+        this.count += 1;
+    }
+
+    /**
+     * Check failure number.
+     * @param pos Failure number
+     */
+    private void check(final int pos) {
+        if (pos < 0 || pos >= this.count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Failure %d of %d", pos, this.count)
+            );
+        }
+    }
+}
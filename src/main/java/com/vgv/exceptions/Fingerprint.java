@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Stable 64-bit fingerprint of a throwable.
+ *
+ * <p>The fingerprint is a FNV-1a hash of the class names and the top
+ * stack frames (class and method names) of the throwable and each of its
+ * causes. Line numbers and messages are left out so that the same failure
+ * keeps its fingerprint across minor changes and varying input.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+final class Fingerprint {
+
+    /**
+     * FNV-1a offset basis.
+     */
+    private static final long BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a prime.
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * Maximum number of causes taken into account.
+     */
+    private static final int DEPTH = 8;
+
+    /**
+     * Throwable.
+     */
+    private final Throwable throwable;
+
+    /**
+     * Number of top stack frames taken into account.
+     */
+    private final int frames;
+
+    /**
+     * Ctor.
+     * @param thr Throwable
+     * @param top Number of top stack frames taken into account
+     */
+    Fingerprint(final Throwable thr, final int top) {
+        this.throwable = thr;
+        this.frames = top;
+    }
+
+    /**
+     * Fingerprint value.
+     * @return Long Fingerprint
+     */
+    public long value() {
+        long hash = Fingerprint.BASIS;
+        Throwable current = this.throwable;
+        for (int depth = 0; current != null && depth < Fingerprint.DEPTH;
+            ++depth) {
+            hash = Fingerprint.mix(hash, current.getClass().getName());
+            final StackTraceElement[] trace = current.getStackTrace();
+            final int count = Math.min(this.frames, trace.length);
+            for (int idx = 0; idx < count; ++idx) {
+                hash = Fingerprint.mix(hash, trace[idx].getClassName());
+                hash = Fingerprint.mix(hash, trace[idx].getMethodName());
+            }
+            if (current.getCause() == current) {
+                current = null;
+            } else {
+                current = current.getCause();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Mix characters of a text into a hash.
+     * @param hash Hash
+     * @param text Text
+     * @return Long Hash
+     */
+    private static long mix(final long hash, final String text) {
+        long result = hash;
+        for (int idx = 0; idx < text.length(); ++idx) {
+            result ^= text.charAt(idx);
+            result *= Fingerprint.PRIME;
+        }
+        return result * Fingerprint.PRIME;
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Catch block that reports its dispatches as events.
+ *
+ * <p>Each handled exception is reported with the name of the block, its
+ * distance to the exception class and the duration of the handler.
+ * Exceptions the origin block does not support are passed through
+ * without an event.
+ *
+ * <p>This class is thread safe if origin block and events sink are
+ * thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FlightCatch implements CatchBlock {
+
+    /**
+     * Catch block name.
+     */
+    private final String name;
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Events sink.
+     */
+    private final TryEvents events;
+
+    /**
+     * Ctor.
+     * @param label Catch block name
+     * @param blk Catch block
+     * @param evts Events sink
+     */
+    public FlightCatch(final String label, final CatchBlock blk,
+        final TryEvents evts) {
+        this.name = label;
+        this.origin = blk;
+        this.events = evts;
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)) {
+            final TryEvents.Dispatch dispatch = this.events.dispatch(
+                this.name, exception, this.origin.distance(exception)
+            );
+            try {
+                this.origin.handle(exception);
+            } finally {
+                dispatch.done();
+            }
+        } else {
+            this.origin.handle(exception);
+        }
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Events sink that writes events to JDK Flight Recorder when available.
+ *
+ * <p>Flight Recorder events are defined in {@code JfrEvents}, which is
+ * compiled only when the library is built on JDK 11 or newer (see
+ * {@code jfr} profile). The class is loaded reflectively, so on a runtime
+ * without {@code jdk.jfr}, or with a build that does not include it, all
+ * events are ignored. Events are committed only while a recording with
+ * them enabled is running. Executions and dispatches are filtered by the
+ * standard {@code threshold} setting of the recording; failures are
+ * recorded as separate instant events, so they are never filtered out.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> final TryEvents events = new FlightEvents();
+ *      new Try(new FlightCatch("io", new Catch(IOException.class, ...),
+ *         events)).with(new FlightListener(events))
+ *         .exec(() -> conn.query(sql));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FlightEvents implements TryEvents {
+
+    /**
+     * Name of class with Flight Recorder events.
+     */
+    private static final String JFR = "com.vgv.exceptions.JfrEvents";
+
+    /**
+     * Events origin.
+     */
+    private final TryEvents origin;
+
+    /**
+     * Ctor.
+     */
+    public FlightEvents() {
+        this(FlightEvents.available());
+    }
+
+    /**
+     * Ctor.
+     * @param events Events origin
+     */
+    private FlightEvents(final TryEvents events) {
+        this.origin = events;
+    }
+
+    @Override
+    public TryEvents.Execution execution() {
+        return this.origin.execution();
+    }
+
+    @Override
+    public TryEvents.Dispatch dispatch(final String block,
+        final Exception exception, final int distance) {
+        return this.origin.dispatch(block, exception, distance);
+    }
+
+    @Override
+    public void mapping(final Exception exception, final Exception mapped) {
+        this.origin.mapping(exception, mapped);
+    }
+
+    @Override
+    public void finallyFailure(final Exception exception) {
+        this.origin.finallyFailure(exception);
+    }
+
+    /**
+     * Flight Recorder events if they can be loaded, otherwise events
+     * that are ignored.
+     * @return TryEvents Events
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static TryEvents available() {
+        TryEvents events;
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            events = (TryEvents) Class.forName(FlightEvents.JFR)
+                .getConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError ex) {
+            events = new NoEvents();
+        }
+        return events;
+    }
+}
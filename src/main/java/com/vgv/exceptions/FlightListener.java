@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Try listener that reports executions as events.
+ *
+ * <p>An execution is begun in the events sink when try block starts and
+ * completed when it succeeds, fails with an exception or fails with an
+ * error, so the sink measures its duration. Executions in progress are
+ * kept in a per-thread stack, so nested executions on the same thread are
+ * measured separately. The stack tolerates unbalanced hooks: completion
+ * without a started execution is ignored, and the oldest executions are
+ * dropped once the stack is deeper than any sensible nesting, so a
+ * missing completion can't grow it on pooled threads. Exception mappings
+ * are reported as they happen.
+ *
+ * <p>This class is thread safe if events sink is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FlightListener implements TryListener {
+
+    /**
+     * Maximum number of executions in progress per thread.
+     */
+    private static final int DEPTH = 64;
+
+    /**
+     * Events sink.
+     */
+    private final TryEvents events;
+
+    /**
+     * Executions in progress per thread.
+     */
+    private final ThreadLocal<Deque<TryEvents.Execution>> executions;
+
+    /**
+     * Ctor.
+     * @param evts Events sink
+     */
+    public FlightListener(final TryEvents evts) {
+        this.events = evts;
+        this.executions = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    @Override
+    public void onStart() {
+        final Deque<TryEvents.Execution> stack = this.executions.get();
+        stack.push(this.events.execution());
+        if (stack.size() > FlightListener.DEPTH) {
+            stack.removeLast();
+        }
+    }
+
+    @Override
+    public void onSuccess() {
+        final TryEvents.Execution execution = this.executions.get().poll();
+        if (execution != null) {
+            execution.success();
+        }
+    }
+
+    @Override
+    public void onFailure(final Exception exception, final boolean handled) {
+        final TryEvents.Execution execution = this.executions.get().poll();
+        if (execution != null) {
+            execution.failure(exception, handled);
+        }
+    }
+
+    @Override
+    public void onError(final Error error) {
+        final TryEvents.Execution execution = this.executions.get().poll();
+        if (execution != null) {
+            execution.failure(error, false);
+        }
+    }
+
+    @Override
+    public void onMapped(final Exception exception, final Exception mapped) {
+        this.events.mapping(exception, mapped);
+    }
+}
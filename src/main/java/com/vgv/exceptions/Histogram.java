@@ -0,0 +1,227 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-bucketed histogram of durations in nanoseconds.
+ *
+ * <p>Values are counted in a fixed array of buckets: every power of two
+ * range is split into eight linear sub-buckets, so a recorded value is
+ * known with a relative error of at most 12.5% and the histogram takes
+ * about four kilobytes regardless of the number of recorded values.
+ * The exact sum of recorded values is kept aside; it is read separately
+ * from the buckets, so in a snapshot taken during recording it may
+ * include a few values that the counts do not.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class Histogram {
+
+    /**
+     * Number of bits of sub-bucket index.
+     */
+    private static final int BITS = 3;
+
+    /**
+     * Number of sub-buckets per power of two.
+     */
+    private static final int SUBS = 1 << Histogram.BITS;
+
+    /**
+     * Number of buckets.
+     */
+    private static final int SIZE =
+        (Long.SIZE - Histogram.BITS + 1) * Histogram.SUBS;
+
+    /**
+     * Bucket counts.
+     */
+    private final AtomicLongArray buckets;
+
+    /**
+     * Sum of recorded values.
+     */
+    private final LongAdder total;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this.buckets = new AtomicLongArray(Histogram.SIZE);
+        this.total = new LongAdder();
+    }
+
+    /**
+     * Record a duration.
+     * @param nanos Duration in nanoseconds, negative values count as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0L);
+        this.buckets.getAndIncrement(Histogram.index(value));
+        this.total.add(value);
+    }
+
+    /**
+     * Read counts recorded so far.
+     * @return Histogram.Snapshot Snapshot
+     */
+    public Histogram.Snapshot snapshot() {
+        final long[] counts = new long[Histogram.SIZE];
+        for (int idx = 0; idx < counts.length; ++idx) {
+            counts[idx] = this.buckets.get(idx);
+        }
+        return new Histogram.Snapshot(counts, this.total.sum());
+    }
+
+    /**
+     * Read and reset counts recorded since the previous interval.
+     * @return Histogram.Snapshot Snapshot
+     */
+    public Histogram.Snapshot interval() {
+        final long[] counts = new long[Histogram.SIZE];
+        for (int idx = 0; idx < counts.length; ++idx) {
+            counts[idx] = this.buckets.getAndSet(idx, 0L);
+        }
+        return new Histogram.Snapshot(counts, this.total.sumThenReset());
+    }
+
+    /**
+     * Bucket of a value.
+     * @param value Non-negative value
+     * @return Int Bucket index
+     */
+    private static int index(final long value) {
+        final int result;
+        if (value < Histogram.SUBS) {
+            result = (int) value;
+        } else {
+            final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value)
+                - Histogram.BITS;
+            result = (shift + 1) * Histogram.SUBS
+                + (int) (value >>> shift & Histogram.SUBS - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Highest value of a bucket.
+     * @param index Bucket index
+     * @return Long Highest value
+     */
+    private static long highest(final int index) {
+        final long result;
+        if (index < Histogram.SUBS) {
+            result = index;
+        } else {
+            final int shift = index / Histogram.SUBS - 1;
+            final long low = (long) (Histogram.SUBS + index % Histogram.SUBS)
+                << shift;
+            result = low + (1L << shift) - 1L;
+        }
+        return result;
+    }
+
+    /**
+     * Immutable copy of bucket counts.
+     *
+     * <p>This class is thread safe.
+     */
+    public static final class Snapshot {
+
+        /**
+         * Bucket counts.
+         */
+        private final long[] counts;
+
+        /**
+         * Number of values.
+         */
+        private final long total;
+
+        /**
+         * Sum of values.
+         */
+        private final long nanos;
+
+        /**
+         * Ctor.
+         * @param buckets Bucket counts
+         * @param sum Sum of values
+         */
+        Snapshot(final long[] buckets, final long sum) {
+            this.counts = buckets;
+            long number = 0L;
+            for (final long count : buckets) {
+                number += count;
+            }
+            this.total = number;
+            this.nanos = sum;
+        }
+
+        /**
+         * Number of recorded values.
+         * @return Long Number of values
+         */
+        public long count() {
+            return this.total;
+        }
+
+        /**
+         * Sum of recorded values.
+         * @return Long Sum in nanoseconds
+         */
+        public long sum() {
+            return this.nanos;
+        }
+
+        /**
+         * Value below or at which given percentage of values fall.
+         * @param percent Percentage between 0 and 100
+         * @return Long Upper bound of the bucket in nanoseconds, zero if
+         *  no value was recorded
+         */
+        public long percentile(final double percent) {
+            final long rank = Math.max(
+                1L, (long) Math.ceil(this.total * percent / 100.0)
+            );
+            long seen = 0L;
+            long result = 0L;
+            for (int idx = 0; idx < this.counts.length; ++idx) {
+                seen += this.counts[idx];
+                if (this.counts[idx] > 0L && seen >= rank) {
+                    result = Histogram.highest(idx);
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+
+/**
+ * Catch block that appends handled exceptions to a memory-mapped journal.
+ *
+ * <p>The journal is a directory of segment files of fixed size. Each
+ * segment starts with a header and is mapped into memory, so appending
+ * a record is a memory copy without system calls. A record is its length,
+ * time in epoch milliseconds and the exception encoded by
+ * {@link ThrowableEncoder}, with the dictionary of class names, messages
+ * and frames kept per segment, so every segment can be decoded on its
+ * own by {@link JournalReader}. A record is followed by the CRC-32 of its
+ * contents, and its length is written last, so a record that was not
+ * completely written when the process crashed ends the segment, and so
+ * does a record whose pages did not all reach the disk when the operating
+ * system crashed. Written pages are flushed by the operating system; a
+ * full segment is forced to the storage device on rotation, and the
+ * current one by {@link #close()}.
+ * When a segment is full, a new one is created and the oldest segments
+ * above the given count are deleted, including segments left in the
+ * directory by previous runs. Records larger than a segment are skipped
+ * without rotating, and records are dropped while a new segment can't be
+ * created, so journaling never fails the catch block.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class JournalCatch implements CatchBlock, AutoCloseable {
+
+    /**
+     * Magic number at the start of each segment.
+     */
+    static final int MAGIC = 0x56475633;
+
+    /**
+     * Size of record header: length and checksum.
+     */
+    static final int HEADER = 2 * Integer.BYTES;
+
+    /**
+     * Minimum segment size in bytes.
+     */
+    private static final int MIN = 256;
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Journal directory.
+     */
+    private final Path directory;
+
+    /**
+     * Segment size in bytes.
+     */
+    private final int size;
+
+    /**
+     * Maximum number of segments.
+     */
+    private final int count;
+
+    /**
+     * Segment files, oldest first.
+     */
+    private final Deque<Path> files;
+
+    /**
+     * Encoder of current segment.
+     */
+    private final ThrowableEncoder encoder;
+
+    /**
+     * Encoder that checks whether a record fits into an empty segment.
+     */
+    private final ThrowableEncoder trial;
+
+    /**
+     * Buffer of record being encoded.
+     */
+    private ByteBuffer scratch;
+
+    /**
+     * Current segment.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * Number of created segments.
+     */
+    private long created;
+
+    /**
+     * Ctor.
+     * @param blk Catch block
+     * @param dir Journal directory
+     * @param bytes Segment size in bytes
+     * @param segments Maximum number of segments
+     * @throws IllegalArgumentException If segment size is less than 256
+     *  bytes or there are no segments
+     * @throws UncheckedIOException If journal directory can't be listed
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public JournalCatch(final CatchBlock blk, final Path dir,
+        final int bytes, final int segments) {
+        if (bytes < JournalCatch.MIN) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Segment size %d is less than %d bytes",
+                    bytes, JournalCatch.MIN
+                )
+            );
+        }
+        if (segments < 1) {
+            throw new IllegalArgumentException(
+                String.format("Number of segments %d is not positive", segments)
+            );
+        }
+        this.origin = blk;
+        this.directory = dir;
+        this.size = bytes;
+        this.count = segments;
+        try {
+            this.files = new ArrayDeque<>(JournalReader.segments(dir));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.encoder = new ThrowableEncoder();
+        this.trial = new ThrowableEncoder();
+        this.scratch = ByteBuffer.allocate(Math.min(bytes, 1 << 12));
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)) {
+            synchronized (this.encoder) {
+                this.append(exception, System.currentTimeMillis());
+            }
+        }
+        this.origin.handle(exception);
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.encoder) {
+            if (this.segment != null) {
+                this.segment.force();
+            }
+        }
+    }
+
+    /**
+     * Append record to current segment, rotating it if needed.
+     * @param exception Exception
+     * @param time Time in epoch milliseconds
+     */
+    private void append(final Exception exception, final long time) {
+        boolean fits = this.segment != null && this.encode(
+            this.encoder, exception, time, this.segment.remaining()
+        );
+        if (!fits) {
+            this.trial.reset();
+            fits = this.encode(
+                this.trial, exception, time, this.size - Integer.BYTES
+            ) && this.rotate() && this.encode(
+                this.encoder, exception, time, this.segment.remaining()
+            );
+        }
+        if (fits) {
+            final int start = this.segment.position();
+            this.scratch.flip();
+            this.scratch.position(JournalCatch.HEADER);
+            final CRC32 crc = new CRC32();
+            crc.update(this.scratch.duplicate());
+            this.segment.position(start + JournalCatch.HEADER);
+            this.segment.put(this.scratch);
+            this.segment.putInt(
+                start + Integer.BYTES, (int) crc.getValue()
+            );
+            this.segment.putInt(
+                start, this.scratch.limit() - JournalCatch.HEADER
+            );
+        }
+    }
+
+    /**
+     * Encode record into scratch buffer, growing it up to given space.
+     * @param enc Encoder
+     * @param exception Exception
+     * @param time Time in epoch milliseconds
+     * @param room Space left in segment
+     * @return Boolean True if record fits into the space
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private boolean encode(final ThrowableEncoder enc,
+        final Exception exception, final long time, final int room) {
+        boolean encoded = false;
+        boolean full = room <= JournalCatch.HEADER;
+        while (!encoded && !full) {
+            this.scratch.clear();
+            this.scratch.limit(Math.min(room, this.scratch.capacity()));
+            this.scratch.position(JournalCatch.HEADER);
+            try {
+                ThrowableEncoder.varint(time, this.scratch);
+                enc.encode(exception, this.scratch);
+                encoded = true;
+            } catch (final BufferOverflowException ex) {
+                if (this.scratch.limit() == room) {
+                    full = true;
+                } else {
+                    this.scratch = ByteBuffer.allocate(
+                        Math.min(this.size, this.scratch.capacity() * 2)
+                    );
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Start a new segment and delete the oldest ones.
+     * @return Boolean True if new segment was created
+     */
+    private boolean rotate() {
+        final Path file = this.directory.resolve(
+            String.format(
+                "%d-%06d.journal", System.currentTimeMillis(), this.created
+            )
+        );
+        if (this.segment != null) {
+            this.segment.force();
+        }
+        boolean rotated;
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            this.segment = channel.map(
+                FileChannel.MapMode.READ_WRITE, 0L, this.size
+            );
+            this.segment.putInt(JournalCatch.MAGIC);
+            ++this.created;
+            this.files.addLast(file);
+            this.encoder.reset();
+            rotated = true;
+        } catch (final IOException ex) {
+            rotated = false;
+        }
+        while (rotated && this.files.size() > this.count) {
+            this.files.removeFirst().toFile().delete();
+        }
+        return rotated;
+    }
+}
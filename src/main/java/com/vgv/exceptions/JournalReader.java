@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Reader of journal segments written by {@link JournalCatch}.
+ *
+ * <p>Reading stops at the first record that was not completely written,
+ * whose checksum does not match its contents or that can't be decoded.
+ * Can be run as a tool that prints journal files, or all journal files
+ * of directories, given as arguments:
+ * {@code java -cp vgv-exceptions.jar com.vgv.exceptions.JournalReader
+ * /var/log/failures}.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class JournalReader {
+
+    /**
+     * Segment file.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param path Segment file
+     */
+    public JournalReader(final Path path) {
+        this.file = path;
+    }
+
+    /**
+     * Read all records of the segment.
+     * @param records Consumer of record time and exception
+     * @throws IOException If segment can't be read or is not a journal
+     */
+    public void read(final BiConsumer<Instant, Throwable> records)
+        throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(
+            this.file, StandardOpenOption.READ
+        )) {
+            buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0L, channel.size()
+            );
+        }
+        if (buffer.remaining() < Integer.BYTES
+            || buffer.getInt() != JournalCatch.MAGIC) {
+            throw new IOException(
+                String.format("%s is not a failure journal", this.file)
+            );
+        }
+        final ThrowableDecoder decoder = new ThrowableDecoder();
+        while (buffer.remaining() > JournalCatch.HEADER) {
+            final int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            final ByteBuffer record = buffer.slice();
+            record.limit(length);
+            final CRC32 crc = new CRC32();
+            crc.update(record.duplicate());
+            if ((int) crc.getValue() != checksum
+                || !JournalReader.decoded(decoder, record, records)) {
+                break;
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Segment files of a journal directory, in order of creation.
+     * @param dir Journal directory
+     * @return List of segment files
+     * @throws IOException If directory can't be listed
+     */
+    static List<Path> segments(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                .filter(
+                    file -> file.getFileName().toString().endsWith(".journal")
+                )
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Decode record and pass it to consumer if it is well formed.
+     * @param decoder Decoder of the segment
+     * @param record Record
+     * @param records Consumer of record time and exception
+     * @return Boolean True if record was decoded exactly
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean decoded(final ThrowableDecoder decoder,
+        final ByteBuffer record,
+        final BiConsumer<Instant, Throwable> records) {
+        boolean result;
+        try {
+            final Instant time =
+                Instant.ofEpochMilli(ThrowableDecoder.varint(record));
+            final Throwable exception = decoder.decode(record);
+            result = !record.hasRemaining();
+            if (result) {
+                records.accept(time, exception);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Print journal files.
+     * @param args Journal files or directories
+     * @throws IOException If journal can't be read
+     */
+    public static void main(final String... args) throws IOException {
+        final PrintStream out = new PrintStream(
+            System.out, true, StandardCharsets.UTF_8.name()
+        );
+        for (final String arg : args) {
+            for (final Path path : JournalReader.paths(Paths.get(arg))) {
+                new JournalReader(path).read(
+                    (time, exception) -> {
+                        out.println(time);
+                        exception.printStackTrace(out);
+                    }
+                );
+            }
+        }
+    }
+
+    /**
+     * Segment files of a path, in order of creation.
+     * @param path Segment file or journal directory
+     * @return List of segment files
+     * @throws IOException If directory can't be listed
+     */
+    private static List<Path> paths(final Path path) throws IOException {
+        final List<Path> result;
+        if (Files.isDirectory(path)) {
+            result = JournalReader.segments(path);
+        } else {
+            result = new ArrayList<>(Collections.singletonList(path));
+        }
+        return result;
+    }
+}
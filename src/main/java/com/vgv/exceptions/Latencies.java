@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency histograms of try blocks.
+ *
+ * <p>Durations of successful executions, of failed executions per
+ * exception class, of catch handlers and of finally blocks are kept in
+ * separate {@link Histogram}s. They are recorded by {@link LatencyTry},
+ * {@link LatencyCatches} and {@link LatencyFinally} that share an instance
+ * of this class. Durations of failed executions include time spent in
+ * catch handlers and finally blocks of the decorated try block.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> final Latencies latencies = new Latencies();
+ *      new LatencyTry(
+ *         new Try(
+ *             new LatencyCatches(
+ *                 new MultiCatch(new Catch(IOException.class, e -> { })),
+ *                 latencies
+ *             )
+ *         ).with(new LatencyFinally(conn::close, latencies)),
+ *         latencies
+ *      ).exec(() -> conn.query(sql));
+ *      latencies.failure(IOException.class).snapshot().percentile(99.0);
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class Latencies {
+
+    /**
+     * Durations of successful executions.
+     */
+    private final Histogram successes;
+
+    /**
+     * Durations of failed executions per exception class.
+     */
+    private final ConcurrentMap<Class<?>, Histogram> failures;
+
+    /**
+     * Durations of catch handlers.
+     */
+    private final Histogram handlers;
+
+    /**
+     * Durations of finally blocks.
+     */
+    private final Histogram finallies;
+
+    /**
+     * Ctor.
+     */
+    public Latencies() {
+        this.successes = new Histogram();
+        this.failures = new ConcurrentHashMap<>(0);
+        this.handlers = new Histogram();
+        this.finallies = new Histogram();
+    }
+
+    /**
+     * Durations of successful executions.
+     * @return Histogram Histogram
+     */
+    public Histogram success() {
+        return this.successes;
+    }
+
+    /**
+     * Durations of executions failed with exactly given exception class.
+     * @param clazz Exception class
+     * @return Histogram Histogram
+     */
+    public Histogram failure(final Class<?> clazz) {
+        Histogram histogram = this.failures.get(clazz);
+        if (histogram == null) {
+            histogram = this.failures.computeIfAbsent(
+                clazz, any -> new Histogram()
+            );
+        }
+        return histogram;
+    }
+
+    /**
+     * Durations of failed executions per exception class.
+     * @return Map of histograms
+     */
+    public Map<Class<?>, Histogram> failures() {
+        return Collections.unmodifiableMap(this.failures);
+    }
+
+    /**
+     * Durations of catch handlers.
+     * @return Histogram Histogram
+     */
+    public Histogram handler() {
+        return this.handlers;
+    }
+
+    /**
+     * Durations of finally blocks.
+     * @return Histogram Histogram
+     */
+    public Histogram fnly() {
+        return this.finallies;
+    }
+}
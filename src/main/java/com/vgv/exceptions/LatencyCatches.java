@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Catch blocks that record duration of exception handling.
+ *
+ * <p>This class is thread safe if origin blocks are thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class LatencyCatches implements CatchBlocks {
+
+    /**
+     * Catch blocks origin.
+     */
+    private final CatchBlocks origin;
+
+    /**
+     * Latencies.
+     */
+    private final Latencies latencies;
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param ltc Latencies
+     */
+    public LatencyCatches(final CatchBlocks blks, final Latencies ltc) {
+        this.origin = blks;
+        this.latencies = ltc;
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        final long start = System.nanoTime();
+        try {
+            this.origin.handle(exception);
+        } finally {
+            this.latencies.handler().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+}
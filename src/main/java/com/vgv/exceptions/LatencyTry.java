@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Try block that records durations of successful executions and of failed
+ * executions per exception class.
+ *
+ * <p>Durations of executions that fail with an error are not recorded.
+ *
+ * <p>This class is thread safe if origin block is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class LatencyTry extends ObservedTry {
+
+    /**
+     * Ctor.
+     * @param blk Try block
+     * @param ltc Latencies
+     */
+    public LatencyTry(final TryBlock blk, final Latencies ltc) {
+        super(blk, () -> new LatencyTry.Timing(ltc, System.nanoTime()));
+    }
+
+    /**
+     * Execution that records its duration.
+     *
+     * <p>There is no thread-safety guarantee.
+     */
+    private static final class Timing implements TryEvents.Execution {
+
+        /**
+         * Latencies.
+         */
+        private final Latencies latencies;
+
+        /**
+         * Start of execution in nanoseconds.
+         */
+        private final long start;
+
+        /**
+         * Ctor.
+         * @param ltc Latencies
+         * @param time Start of execution in nanoseconds
+         */
+        Timing(final Latencies ltc, final long time) {
+            this.latencies = ltc;
+            this.start = time;
+        }
+
+        @Override
+        public void success() {
+            this.latencies.success().record(System.nanoTime() - this.start);
+        }
+
+        @Override
+        public void failure(final Throwable failure, final boolean handled) {
+            if (failure instanceof Exception) {
+                this.latencies.failure(failure.getClass())
+                    .record(System.nanoTime() - this.start);
+            }
+        }
+    }
+}
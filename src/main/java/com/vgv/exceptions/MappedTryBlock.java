@@ -47,4 +47,48 @@ public interface MappedTryBlock<E extends Exception> {
      * @throws Exception Exception
      */
     void exec(ThrowableVoid<Exception> proc) throws E;
+
+    /**
+     * Execute scalar of primitive int value through exception handling.
+     * @param scalar Scalar
+     * @return Value
+     * @throws E Exception
+     */
+    default int execInt(final ThrowableIntScalar<Exception> scalar)
+        throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive long value through exception handling.
+     * @param scalar Scalar
+     * @return Value
+     * @throws E Exception
+     */
+    default long execLong(final ThrowableLongScalar<Exception> scalar)
+        throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive double value through exception handling.
+     * @param scalar Scalar
+     * @return Value
+     * @throws E Exception
+     */
+    default double execDouble(final ThrowableDoubleScalar<Exception> scalar)
+        throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive boolean value through exception handling.
+     * @param scalar Scalar
+     * @return Value
+     * @throws E Exception
+     */
+    default boolean execBoolean(final ThrowableBooleanScalar<Exception> scalar)
+        throws E {
+        return this.exec(scalar::value);
+    }
 }
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.Supplier;
+
+/**
+ * Try block that counts executions, successes and failures per
+ * exception class.
+ *
+ * <p>Errors are not counted as failures.
+ *
+ * <p>This class is thread safe if origin block is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class MeteredTry extends ObservedTry {
+
+    /**
+     * Ctor.
+     * @param blk Try block
+     * @param mtr Metrics
+     */
+    public MeteredTry(final TryBlock blk, final TryMetrics mtr) {
+        super(blk, new MeteredTry.Probe(mtr));
+    }
+
+    /**
+     * Probe that counts executions.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Probe implements
+        Supplier<TryEvents.Execution>, TryEvents.Execution {
+
+        /**
+         * Metrics.
+         */
+        private final TryMetrics metrics;
+
+        /**
+         * Ctor.
+         * @param mtr Metrics
+         */
+        Probe(final TryMetrics mtr) {
+            this.metrics = mtr;
+        }
+
+        @Override
+        public TryEvents.Execution get() {
+            this.metrics.started();
+            return this;
+        }
+
+        @Override
+        public void success() {
+            this.metrics.succeeded();
+        }
+
+        @Override
+        public void failure(final Throwable failure, final boolean handled) {
+            if (failure instanceof Exception) {
+                this.metrics.failed((Exception) failure);
+            }
+        }
+    }
+}
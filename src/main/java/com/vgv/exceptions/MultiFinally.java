@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import org.cactoos.list.ListOf;
+
+/**
+ * Multiple finally blocks.
+ *
+ * <p>All blocks are executed even if some of them fail. The first failure
+ * is thrown once all blocks are executed, with failures of subsequent
+ * blocks attached to it as suppressed exceptions.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class MultiFinally implements FinallyBlock {
+
+    /**
+     * List of finally blocks.
+     */
+    private final Iterable<FinallyBlock> blocks;
+
+    /**
+     * Ctor.
+     * @param blks Finally block list
+     */
+    public MultiFinally(final FinallyBlock... blks) {
+        this(new ListOf<>(blks));
+    }
+
+    /**
+     * Ctor.
+     * @param blks Finally block list
+     */
+    public MultiFinally(final Iterable<FinallyBlock> blks) {
+        this.blocks = blks;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void exec() throws Exception {
+        Exception failure = null;
+        for (final FinallyBlock block : this.blocks) {
+            try {
+                block.exec();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
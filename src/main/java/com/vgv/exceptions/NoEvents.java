@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Events sink that ignores all events.
+ *
+ * <p>It is its own execution and dispatch, so it allocates nothing.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class NoEvents implements TryEvents, TryEvents.Execution,
+    TryEvents.Dispatch {
+
+    @Override
+    public TryEvents.Execution execution() {
+        return this;
+    }
+
+    @Override
+    public TryEvents.Dispatch dispatch(final String block,
+        final Exception exception, final int distance) {
+        return this;
+    }
+
+    @Override
+    public void mapping(final Exception exception, final Exception mapped) {
+        // ignored
+    }
+
+    @Override
+    public void finallyFailure(final Exception exception) {
+        // ignored
+    }
+
+    @Override
+    public void success() {
+        // ignored
+    }
+
+    @Override
+    public void failure(final Throwable failure, final boolean handled) {
+        // ignored
+    }
+
+    @Override
+    public void done() {
+        // ignored
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.Supplier;
+
+/**
+ * Try block that reports every execution of its origin block to a probe.
+ *
+ * <p>This is the base of try block decorators such as {@link MeteredTry},
+ * {@link LatencyTry} and {@link TracedTry}. The probe is asked for a new
+ * {@link TryEvents.Execution} before the origin block starts, and the
+ * execution is completed exactly once, whether the origin block returns,
+ * throws an exception or throws an error. Failures are reported as not
+ * handled, since catch blocks of the origin block are not known here.
+ *
+ * <p>This class is thread safe if origin block and probe are thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.AbstractClassWithoutAbstractMethod"
+    }
+)
+abstract class ObservedTry implements TryBlock {
+
+    /**
+     * Try block origin.
+     */
+    private final TryBlock origin;
+
+    /**
+     * Probe that starts executions.
+     */
+    private final Supplier<TryEvents.Execution> probe;
+
+    /**
+     * Ctor.
+     * @param blk Try block
+     * @param prb Probe that starts executions
+     */
+    ObservedTry(final TryBlock blk,
+        final Supplier<TryEvents.Execution> prb) {
+        this.origin = blk;
+        this.probe = prb;
+    }
+
+    @Override
+    public final <T, E extends Exception> T exec(
+        final ThrowableScalar<T, E> scalar) throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        final T result;
+        try {
+            result = this.origin.exec(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+        return result;
+    }
+
+    @Override
+    public final <E extends Exception> void exec(final ThrowableVoid<E> proc)
+        throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        try {
+            this.origin.exec(proc);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+    }
+
+    @Override
+    public final <E extends Exception> int execInt(
+        final ThrowableIntScalar<E> scalar) throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        final int result;
+        try {
+            result = this.origin.execInt(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+        return result;
+    }
+
+    @Override
+    public final <E extends Exception> long execLong(
+        final ThrowableLongScalar<E> scalar) throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        final long result;
+        try {
+            result = this.origin.execLong(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+        return result;
+    }
+
+    @Override
+    public final <E extends Exception> double execDouble(
+        final ThrowableDoubleScalar<E> scalar) throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        final double result;
+        try {
+            result = this.origin.execDouble(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+        return result;
+    }
+
+    @Override
+    public final <E extends Exception> boolean execBoolean(
+        final ThrowableBooleanScalar<E> scalar) throws E {
+        final TryEvents.Execution execution = this.probe.get();
+        final boolean result;
+        try {
+            result = this.origin.execBoolean(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            execution.failure(exception, false);
+            throw exception;
+        } catch (final Error error) {
+            execution.failure(error, false);
+            throw error;
+        }
+        execution.success();
+        return result;
+    }
+
+    @Override
+    public final <T, E extends Exception> Outcome<T> attempt(
+        final ThrowableScalar<T, E> scalar) {
+        final TryEvents.Execution execution = this.probe.get();
+        final Outcome<T> outcome;
+        try {
+            outcome = this.origin.attempt(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException | Error failure) {
+            execution.failure(failure, false);
+            throw failure;
+        }
+        if (outcome.success()) {
+            execution.success();
+        } else {
+            execution.failure(outcome.failure().get(), false);
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable outcome of an execution: either a value or a handled exception.
+ *
+ * <p>Returned by {@link TryBlock#attempt(ThrowableScalar)} so failures can
+ * be processed without rethrowing them.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public interface Outcome<T> {
+
+    /**
+     * Checks if execution succeeded.
+     * @return Boolean Boolean
+     */
+    boolean success();
+
+    /**
+     * Value of successful execution.
+     * @return T Value
+     * @throws Exception Exception of failed execution
+     */
+    T value() throws Exception;
+
+    /**
+     * Value of successful execution or a default one.
+     * @param other Default value
+     * @return T Value
+     */
+    T orElse(T other);
+
+    /**
+     * Exception of failed execution.
+     * @return Exception Exception, empty if execution succeeded
+     */
+    Optional<Exception> failure();
+
+    /**
+     * Transforms value of successful execution.
+     * @param fun Function
+     * @param <R> Result
+     * @return Outcome Outcome
+     */
+    <R> Outcome<R> map(Function<? super T, ? extends R> fun);
+
+    /**
+     * Transforms value of successful execution into another outcome.
+     * @param fun Function
+     * @param <R> Result
+     * @return Outcome Outcome
+     */
+    <R> Outcome<R> flatMap(Function<? super T, Outcome<R>> fun);
+
+    /**
+     * Transforms exception of failed execution into a value.
+     * @param fun Function
+     * @return Outcome Outcome
+     */
+    Outcome<T> recover(Function<Exception, ? extends T> fun);
+}
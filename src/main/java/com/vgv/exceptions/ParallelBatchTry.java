@@ -0,0 +1,374 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exception control over a batch of scalars executed in parallel
+ * on a {@link ForkJoinPool}.
+ *
+ * <p>Scalars are split into ranges that are executed by work-stealing
+ * fork/join tasks. Catch blocks are never called concurrently by the same
+ * instance; they are guarded by its own monitor, not by the catch blocks
+ * object, so outside locks on it don't stall the batch. Modes are
+ * the same as in {@link BatchTry}: collect-all ({@link #exec(List)})
+ * reports failures in {@link Batch}; fail-fast ({@link #execOrFail(List)})
+ * stops scheduling remaining scalars on the first failure and throws it
+ * with the failures of already running scalars attached as suppressed
+ * exceptions.
+ *
+ * <p>This class is thread safe if catch blocks do not keep state.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ParallelBatchTry {
+
+    /**
+     * Number of ranges per worker thread.
+     */
+    private static final int RANGES = 4;
+
+    /**
+     * Fork/join pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Catch blocks.
+     */
+    private final CatchBlocks blocks;
+
+    /**
+     * Whether only first failure of each exception class is handled.
+     */
+    private final boolean once;
+
+    /**
+     * Monitor that guards calls of catch blocks.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param blks List of catch blocks
+     */
+    public ParallelBatchTry(final CatchBlock... blks) {
+        this(ForkJoinPool.commonPool(), new MultiCatch(blks));
+    }
+
+    /**
+     * Ctor.
+     * @param frk Fork/join pool
+     * @param blks Catch blocks
+     */
+    public ParallelBatchTry(final ForkJoinPool frk, final CatchBlocks blks) {
+        this(frk, blks, false);
+    }
+
+    /**
+     * Ctor.
+     * @param frk Fork/join pool
+     * @param blks Catch blocks
+     * @param first Handle only first failure of each exception class
+     */
+    public ParallelBatchTry(final ForkJoinPool frk, final CatchBlocks blks,
+        final boolean first) {
+        this.pool = frk;
+        this.blocks = blks;
+        this.once = first;
+        this.lock = new Object();
+    }
+
+    /**
+     * Execute all scalars in parallel and collect failures.
+     * @param scalars Scalars
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Batch Values and failures
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> Batch<T> exec(
+        final List<? extends ThrowableScalar<T, E>> scalars) {
+        final ParallelBatchTry.Run<T> run = this.run(scalars, false);
+        final List<T> values = new ArrayList<>(scalars.size());
+        final Failures failures = new Failures();
+        for (int idx = 0; idx < scalars.size(); ++idx) {
+            if (run.errors[idx] == null) {
+                values.add((T) run.values[idx]);
+            } else {
+                failures.add(idx, run.errors[idx]);
+            }
+        }
+        return new Batch<>(values, failures);
+    }
+
+    /**
+     * Execute scalars in parallel until the first failure, which is
+     * thrown with other failures attached as suppressed exceptions.
+     * @param scalars Scalars
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return List Values
+     * @throws E Exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> List<T> execOrFail(
+        final List<? extends ThrowableScalar<T, E>> scalars) throws E {
+        final ParallelBatchTry.Run<T> run = this.run(scalars, true);
+        final Exception first = run.first.get();
+        if (first != null) {
+            for (final Exception error : run.errors) {
+                if (error != null && error != first) {
+                    first.addSuppressed(error);
+                }
+            }
+            throw (E) first;
+        }
+        final List<T> values = new ArrayList<>(scalars.size());
+        for (final Object value : run.values) {
+            values.add((T) value);
+        }
+        return values;
+    }
+
+    /**
+     * Execute scalars on the pool.
+     * @param scalars Scalars
+     * @param fast Whether to stop on first failure
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Run Execution state
+     */
+    private <T, E extends Exception> ParallelBatchTry.Run<T> run(
+        final List<? extends ThrowableScalar<T, E>> scalars,
+        final boolean fast) {
+        final ParallelBatchTry.Run<T> run = new ParallelBatchTry.Run<>(
+            scalars, fast, this.blocks, this.once, this.lock
+        );
+        final int size = Math.max(
+            1,
+            scalars.size()
+                / (this.pool.getParallelism() * ParallelBatchTry.RANGES)
+        );
+        this.pool.invoke(
+            new ParallelBatchTry.Range<>(run, 0, scalars.size(), size)
+        );
+        return run;
+    }
+
+    /**
+     * Shared state of parallel execution.
+     *
+     * <p>Each slot of values and errors is written by a single task.
+     * @param <T> Scalar type
+     */
+    private static final class Run<T> {
+
+        /**
+         * Scalars.
+         */
+        private final List<? extends ThrowableScalar<T, ?>> scalars;
+
+        /**
+         * Values of scalars.
+         */
+        private final Object[] values;
+
+        /**
+         * Exceptions of scalars.
+         */
+        private final Exception[] errors;
+
+        /**
+         * Whether to stop on first failure.
+         */
+        private final boolean fast;
+
+        /**
+         * Stop flag of fail-fast mode.
+         */
+        private final AtomicBoolean stopped;
+
+        /**
+         * First failure.
+         */
+        private final AtomicReference<Exception> first;
+
+        /**
+         * Catch blocks.
+         */
+        private final CatchBlocks blocks;
+
+        /**
+         * Whether only first failure of each exception class is handled.
+         */
+        private final boolean once;
+
+        /**
+         * Exception classes handled so far.
+         */
+        private final Set<Class<?>> handled;
+
+        /**
+         * Monitor that guards calls of catch blocks.
+         */
+        private final Object lock;
+
+        /**
+         * Ctor.
+         * @param list Scalars
+         * @param stop Whether to stop on first failure
+         * @param blks Catch blocks
+         * @param first Handle only first failure of each exception class
+         * @param monitor Monitor that guards calls of catch blocks
+         * @checkstyle ParameterNumberCheck (4 lines)
+         */
+        Run(final List<? extends ThrowableScalar<T, ?>> list,
+            final boolean stop, final CatchBlocks blks, final boolean first,
+            final Object monitor) {
+            this.scalars = list;
+            this.values = new Object[list.size()];
+            this.errors = new Exception[list.size()];
+            this.fast = stop;
+            this.stopped = new AtomicBoolean();
+            this.first = new AtomicReference<>();
+            this.blocks = blks;
+            this.once = first;
+            this.handled = ConcurrentHashMap.newKeySet();
+            this.lock = monitor;
+        }
+
+        /**
+         * Execute scalar at position.
+         * @param idx Position
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void exec(final int idx) {
+            if (!this.stopped.get()) {
+                try {
+                    this.values[idx] = this.scalars.get(idx).value();
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception exception) {
+                    this.errors[idx] = exception;
+                    if (this.fast) {
+                        this.stopped.set(true);
+                        this.first.compareAndSet(null, exception);
+                    }
+                    if (!this.once || this.handled.add(exception.getClass())) {
+                        synchronized (this.lock) {
+                            this.blocks.handle(exception);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Whether remaining scalars should be skipped.
+         * @return Boolean Boolean
+         */
+        public boolean stopped() {
+            return this.stopped.get();
+        }
+    }
+
+    /**
+     * Fork/join task over a range of scalars.
+     * @param <T> Scalar type
+     */
+    private static final class Range<T> extends RecursiveAction {
+
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 5304517407429426937L;
+
+        /**
+         * Shared state.
+         */
+        private final transient ParallelBatchTry.Run<T> run;
+
+        /**
+         * First position, inclusive.
+         */
+        private final int from;
+
+        /**
+         * Last position, exclusive.
+         */
+        private final int till;
+
+        /**
+         * Size of range executed without splitting.
+         */
+        private final int leaf;
+
+        /**
+         * Ctor.
+         * @param state Shared state
+         * @param start First position, inclusive
+         * @param end Last position, exclusive
+         * @param size Size of range executed without splitting
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Range(final ParallelBatchTry.Run<T> state, final int start,
+            final int end, final int size) {
+            super();
+            this.run = state;
+            this.from = start;
+            this.till = end;
+            this.leaf = size;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.till - this.from <= this.leaf) {
+                for (int idx = this.from; idx < this.till; ++idx) {
+                    this.run.exec(idx);
+                }
+            } else if (!this.run.stopped()) {
+                final int middle = (this.from + this.till) >>> 1;
+                ForkJoinTask.invokeAll(
+                    new ParallelBatchTry.Range<>(
+                        this.run, this.from, middle, this.leaf
+                    ),
+                    new ParallelBatchTry.Range<>(
+                        this.run, middle, this.till, this.leaf
+                    )
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prometheus scrape endpoint on loopback interface.
+ *
+ * <p>Serves {@link PrometheusText} at {@code /metrics} using the HTTP
+ * server built into the JDK. The server is bound to the loopback address
+ * only, expose it through a local agent or proxy if needed.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> try (PrometheusServer server = new PrometheusServer(
+ *         9404, new PrometheusText("orders", metrics, latencies)
+ *      )) {
+ *         ...
+ *      }
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class PrometheusServer implements AutoCloseable {
+
+    /**
+     * Content type of Prometheus text format.
+     */
+    private static final String TYPE =
+        "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * Ctor. Starts the server.
+     * @param port Port, zero for any free port
+     * @param text Metrics text
+     * @throws IOException If server can't be started
+     */
+    public PrometheusServer(final int port, final PrometheusText text)
+        throws IOException {
+        this.server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0
+        );
+        this.server.createContext(
+            "/metrics", exchange -> PrometheusServer.respond(exchange, text)
+        );
+        this.server.start();
+    }
+
+    /**
+     * Port the server listens on.
+     * @return Int Port
+     */
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+    /**
+     * Respond with metrics text.
+     * @param exchange Exchange
+     * @param text Metrics text
+     * @throws IOException If response can't be written
+     */
+    private static void respond(final HttpExchange exchange,
+        final PrometheusText text) throws IOException {
+        final byte[] body = text.asString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(
+            "Content-Type", PrometheusServer.TYPE
+        );
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
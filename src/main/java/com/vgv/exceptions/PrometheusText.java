@@ -0,0 +1,291 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Try counters and latencies in Prometheus text exposition format.
+ *
+ * <p>Counters of each named {@link TryMetrics} are exported with label
+ * {@code try} and latencies of each named {@link Latencies} as summaries
+ * with quantiles 0.5, 0.9 and 0.99. Values are read from snapshots, so
+ * rendering does not block recording.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class PrometheusText {
+
+    /**
+     * Exported quantiles.
+     */
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    /**
+     * Counters by try name.
+     */
+    private final Map<String, TryMetrics> metrics;
+
+    /**
+     * Latencies by try name.
+     */
+    private final Map<String, Latencies> latencies;
+
+    /**
+     * Ctor.
+     * @param name Try name
+     * @param mtr Counters
+     * @param ltc Latencies
+     */
+    public PrometheusText(final String name, final TryMetrics mtr,
+        final Latencies ltc) {
+        this(
+            Collections.singletonMap(name, mtr),
+            Collections.singletonMap(name, ltc)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param mtr Counters by try name
+     * @param ltc Latencies by try name
+     */
+    public PrometheusText(final Map<String, TryMetrics> mtr,
+        final Map<String, Latencies> ltc) {
+        this.metrics = mtr;
+        this.latencies = ltc;
+    }
+
+    /**
+     * Render all metrics.
+     * @return String Text in Prometheus exposition format
+     */
+    public String asString() {
+        final StringBuilder text = new StringBuilder(0);
+        final Map<String, TryMetrics.Snapshot> snapshots = new TreeMap<>();
+        for (final Map.Entry<String, TryMetrics> entry
+            : this.metrics.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        PrometheusText.family(
+            text, "vgv_try_executions_total", snapshots,
+            (label, snapshot) -> PrometheusText.line(
+                text, "vgv_try_executions_total", label,
+                snapshot.executions()
+            )
+        );
+        PrometheusText.family(
+            text, "vgv_try_successes_total", snapshots,
+            (label, snapshot) -> PrometheusText.line(
+                text, "vgv_try_successes_total", label, snapshot.successes()
+            )
+        );
+        PrometheusText.family(
+            text, "vgv_try_failures_total", snapshots,
+            (label, snapshot) -> PrometheusText.failures(
+                text, label, snapshot
+            )
+        );
+        PrometheusText.family(
+            text, "vgv_try_handled_total", snapshots,
+            (label, snapshot) -> PrometheusText.handled(
+                text, label, snapshot
+            )
+        );
+        PrometheusText.family(
+            text, "vgv_try_finally_failures_total", snapshots,
+            (label, snapshot) -> PrometheusText.line(
+                text, "vgv_try_finally_failures_total", label,
+                snapshot.finallyFailures()
+            )
+        );
+        text.append("# TYPE vgv_try_latency_seconds summary\n");
+        for (final String name : PrometheusText.sorted(this.latencies)) {
+            final Latencies ltc = this.latencies.get(name);
+            final String label = PrometheusText.label("try", name);
+            PrometheusText.summary(
+                text, label + ",path=\"success\"", ltc.success()
+            );
+            PrometheusText.summary(
+                text, label + ",path=\"catch\"", ltc.handler()
+            );
+            PrometheusText.summary(
+                text, label + ",path=\"finally\"", ltc.fnly()
+            );
+            final List<Class<?>> classes = ltc.failures().keySet().stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .collect(Collectors.toList());
+            for (final Class<?> clazz : classes) {
+                PrometheusText.summary(
+                    text,
+                    String.join(
+                        ",", label, "path=\"failure\"",
+                        PrometheusText.label("exception", clazz.getName())
+                    ),
+                    ltc.failure(clazz)
+                );
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Render counter family of all tries under a single type header.
+     * @param text Output
+     * @param metric Metric name
+     * @param snapshots Counters by try name, sorted
+     * @param series Renders series of a try with given label
+     */
+    private static void family(final StringBuilder text, final String metric,
+        final Map<String, TryMetrics.Snapshot> snapshots,
+        final BiConsumer<String, TryMetrics.Snapshot> series) {
+        text.append("# TYPE ").append(metric).append(" counter\n");
+        for (final Map.Entry<String, TryMetrics.Snapshot> entry
+            : snapshots.entrySet()) {
+            series.accept(
+                PrometheusText.label("try", entry.getKey()), entry.getValue()
+            );
+        }
+    }
+
+    /**
+     * Render failure counters of a try.
+     * @param text Output
+     * @param label Try label
+     * @param snapshot Counters
+     */
+    private static void failures(final StringBuilder text,
+        final String label, final TryMetrics.Snapshot snapshot) {
+        final List<Class<?>> classes = snapshot.classes().stream()
+            .sorted(Comparator.comparing(Class::getName))
+            .collect(Collectors.toList());
+        for (final Class<?> clazz : classes) {
+            PrometheusText.line(
+                text, "vgv_try_failures_total",
+                String.join(
+                    ",", label,
+                    PrometheusText.label("exception", clazz.getName())
+                ),
+                snapshot.failures(clazz)
+            );
+        }
+    }
+
+    /**
+     * Render handled counters of a try.
+     * @param text Output
+     * @param label Try label
+     * @param snapshot Counters
+     */
+    private static void handled(final StringBuilder text,
+        final String label, final TryMetrics.Snapshot snapshot) {
+        final List<String> blocks = snapshot.blocks().stream().sorted()
+            .collect(Collectors.toList());
+        for (final String block : blocks) {
+            PrometheusText.line(
+                text, "vgv_try_handled_total",
+                String.join(",", label, PrometheusText.label("catch", block)),
+                snapshot.handled(block)
+            );
+        }
+    }
+
+    /**
+     * Render latency summary.
+     * @param text Output
+     * @param labels Labels
+     * @param histogram Histogram
+     */
+    private static void summary(final StringBuilder text,
+        final String labels, final Histogram histogram) {
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        for (final double quantile : PrometheusText.QUANTILES) {
+            text.append("vgv_try_latency_seconds{").append(labels)
+                .append(",quantile=\"").append(quantile).append("\"} ")
+                .append(
+                    String.format(
+                        Locale.ROOT, "%.9f",
+                        snapshot.percentile(quantile * 100.0) / 1.0e9
+                    )
+                )
+                .append('\n');
+        }
+        text.append("vgv_try_latency_seconds_sum{").append(labels)
+            .append("} ")
+            .append(
+                String.format(Locale.ROOT, "%.9f", snapshot.sum() / 1.0e9)
+            )
+            .append('\n');
+        PrometheusText.line(
+            text, "vgv_try_latency_seconds_count", labels, snapshot.count()
+        );
+    }
+
+    /**
+     * Render sample line.
+     * @param text Output
+     * @param metric Metric name
+     * @param labels Labels
+     * @param value Value
+     */
+    private static void line(final StringBuilder text, final String metric,
+        final String labels, final long value) {
+        text.append(metric).append('{').append(labels).append("} ")
+            .append(value).append('\n');
+    }
+
+    /**
+     * Label with escaped value.
+     * @param name Label name
+     * @param value Label value
+     * @return String Label
+     */
+    private static String label(final String name, final String value) {
+        return String.format(
+            "%s=\"%s\"", name,
+            value.replace("\\", "\\\\").replace("\"", "\\\"")
+                .replace("\n", "\\n")
+        );
+    }
+
+    /**
+     * Sorted keys of a map.
+     * @param map Map
+     * @return List of keys
+     */
+    private static List<String> sorted(final Map<String, ?> map) {
+        return map.keySet().stream().sorted().collect(Collectors.toList());
+    }
+}
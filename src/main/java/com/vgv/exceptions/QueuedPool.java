@@ -0,0 +1,85 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool that keeps idle resources for reuse.
+ *
+ * <p>Idle resources are reused before new ones are created. A released
+ * resource that does not fit among idle ones is closed, and an evicted
+ * resource is always closed.
+ *
+ * <p>This class is thread safe if scalar is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <R> Resource
+ * @since 1.0
+ */
+public final class QueuedPool<R extends AutoCloseable> implements Pool<R> {
+
+    /**
+     * Scalar that creates resources.
+     */
+    private final ThrowableScalar<R, ?> scalar;
+
+    /**
+     * Idle resources.
+     */
+    private final BlockingQueue<R> idle;
+
+    /**
+     * Ctor.
+     * @param slr Scalar that creates resources
+     * @param size Maximum number of idle resources
+     */
+    public QueuedPool(final ThrowableScalar<R, ?> slr, final int size) {
+        this.scalar = slr;
+        this.idle = new ArrayBlockingQueue<>(size);
+    }
+
+    @Override
+    public R acquire() throws Exception {
+        R resource = this.idle.poll();
+        if (resource == null) {
+            resource = this.scalar.value();
+        }
+        return resource;
+    }
+
+    @Override
+    public void release(final R resource) throws Exception {
+        if (!this.idle.offer(resource)) {
+            resource.close();
+        }
+    }
+
+    @Override
+    public void evict(final R resource) throws Exception {
+        resource.close();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Catch block that records handled failures to a {@link FailureRing}.
+ *
+ * <p>This class is thread safe if origin block is thread safe.
+ *
+ * <pre> final FailureRing ring = new FailureRing(1024, 64, true);
+ *      new Try(
+ *         new RecordingCatch(
+ *             "io", new Catch(IOException.class, e -> { }), ring
+ *         )
+ *      ).exec(...);
+ *      ring.dump().forEach(rec -> LOGGER.warn(rec.toString()));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class RecordingCatch implements CatchBlock {
+
+    /**
+     * Catch block name.
+     */
+    private final String name;
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Failure ring.
+     */
+    private final FailureRing ring;
+
+    /**
+     * Ctor.
+     * @param label Catch block name
+     * @param blk Catch block
+     * @param rng Failure ring
+     */
+    public RecordingCatch(final String label, final CatchBlock blk,
+        final FailureRing rng) {
+        this.name = label;
+        this.origin = blk;
+        this.ring = rng;
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)) {
+            this.ring.record(this.name, exception);
+        }
+        this.origin.handle(exception);
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+}
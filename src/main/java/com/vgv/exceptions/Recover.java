@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.Function;
+import org.cactoos.list.ListOf;
+
+/**
+ * Exception handling in catch block that produces a fallback value.
+ *
+ * <p>The fallback value is returned only by {@link RecoveringTry}. Used
+ * as a plain catch block, for example in {@link Try}, it does nothing, so
+ * the exception goes through as it would with no catch block at all.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class Recover<T> implements RecoverBlock<T> {
+
+    /**
+     * Catch block that matches exceptions.
+     */
+    private final CatchBlock block;
+
+    /**
+     * Function that produces fallback value.
+     */
+    private final Function<Exception, T> function;
+
+    /**
+     * Ctor.
+     * @param cls Class
+     * @param fun Function that produces fallback value
+     * @param <X> Extends Exception
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Exception> Recover(final Class<X> cls,
+        final Function<X, T> fun) {
+        this(new ListOf<>(cls), (Function<Exception, T>) fun);
+    }
+
+    /**
+     * Ctor.
+     * @param clazzs List of classes
+     * @param fun Function that produces fallback value
+     */
+    public Recover(final Iterable<Class<?>> clazzs,
+        final Function<Exception, T> fun) {
+        this.block = new Catch(clazzs, exp -> { });
+        this.function = fun;
+    }
+
+    @Override
+    public T recover(final Exception exception) {
+        return this.function.apply(exception);
+    }
+
+    /**
+     * Fallback value can only be returned through {@link RecoveringTry},
+     * so recover block does nothing when used as a plain catch block.
+     * @param exception Exception
+     */
+    @Override
+    public void handle(final Exception exception) {
+        // recovery is done by RecoveringTry
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.block.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.block.distance(exception);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.Function;
+
+/**
+ * Stream mapping that replaces result of a failed function with
+ * a fallback value.
+ *
+ * <p>The function is executed by a {@link Try}; exceptions supported by
+ * its catch blocks are handled and recovered, other exceptions go through,
+ * checked ones wrapped as by {@link UncheckedTry}.
+ *
+ * <p>This class is thread safe if catch blocks and fallback function
+ * are thread safe. In parallel streams both are called concurrently from
+ * all worker threads.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <X> Input
+ * @param <T> Output
+ * @since 1.0
+ */
+public final class RecoveringFunc<X, T> implements Function<X, T> {
+
+    /**
+     * Exception control of the function.
+     */
+    private final Try policy;
+
+    /**
+     * Function.
+     */
+    private final ThrowableFunc<X, T, ?> func;
+
+    /**
+     * Fallback function.
+     */
+    private final Function<Exception, T> fallback;
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param fun Function
+     * @param fbk Fallback function
+     */
+    public RecoveringFunc(final CatchBlocks blks,
+        final ThrowableFunc<X, T, ?> fun, final Function<Exception, T> fbk) {
+        this(new Try(blks), fun, fbk);
+    }
+
+    /**
+     * Ctor.
+     * @param tri Exception control of the function
+     * @param fun Function
+     * @param fbk Fallback function
+     */
+    public RecoveringFunc(final Try tri, final ThrowableFunc<X, T, ?> fun,
+        final Function<Exception, T> fbk) {
+        this.policy = tri;
+        this.func = fun;
+        this.fallback = fbk;
+    }
+
+    @Override
+    public T apply(final X input) {
+        final Outcome<T> outcome = this.policy.handled(
+            () -> this.func.apply(input)
+        );
+        final T result;
+        if (outcome.success()) {
+            result = outcome.orElse(null);
+        } else {
+            final Exception exception = outcome.failure().get();
+            result = this.fallback.apply(exception);
+        }
+        return result;
+    }
+}
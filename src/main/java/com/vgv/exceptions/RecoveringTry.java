@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Comparator;
+import java.util.Optional;
+import org.cactoos.list.ListOf;
+
+/**
+ * Exception control that returns a fallback value instead of rethrowing.
+ *
+ * <p>The catch or recover block with the closest inheritance distance
+ * handles the exception, as in {@link MultiCatch}. If it is a recover
+ * block, its fallback value is returned and nothing is thrown. Otherwise
+ * the exception is handled and rethrown. On equal distance recover block
+ * wins. Finally block, if given, is executed after that in any case.
+ * Unlike {@link Try}, recovering try does not map exceptions to other
+ * ones, since recovery is what replaces them.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * <p>This is how you're supposed to use it:
+ *
+ * <pre> new RecoveringTry&lt;Entity&gt;(
+ *         new ListOf&lt;&gt;(
+ *             new Catch(
+ *                 ServerException.class,
+ *                 e -> LOGGER.error("Server exception", e)
+ *             )
+ *         ),
+ *         new Recover&lt;&gt;(
+ *             NotFoundException.class,
+ *             e -> Entity.EMPTY
+ *         )
+ *      ).with(() -> connection.close())
+ *      .exec(() -> entities.get(id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class RecoveringTry<T> {
+
+    /**
+     * Catch blocks.
+     */
+    private final Iterable<CatchBlock> catches;
+
+    /**
+     * Recover blocks.
+     */
+    private final Iterable<RecoverBlock<T>> recovers;
+
+    /**
+     * Finally block.
+     */
+    private final FinallyBlock fnly;
+
+    /**
+     * Ctor.
+     * @param rcvs Recover blocks
+     */
+    @SafeVarargs
+    public RecoveringTry(final RecoverBlock<T>... rcvs) {
+        this(new ListOf<>(), rcvs);
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param rcvs Recover blocks
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public RecoveringTry(final Iterable<CatchBlock> blks,
+        final RecoverBlock<T>... rcvs) {
+        this(blks, new ListOf<>(rcvs));
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param rcvs Recover blocks
+     */
+    public RecoveringTry(final Iterable<CatchBlock> blks,
+        final Iterable<RecoverBlock<T>> rcvs) {
+        this(blks, rcvs, () -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param rcvs Recover blocks
+     * @param fblk Finally block
+     */
+    public RecoveringTry(final Iterable<CatchBlock> blks,
+        final Iterable<RecoverBlock<T>> rcvs, final FinallyBlock fblk) {
+        this.catches = blks;
+        this.recovers = rcvs;
+        this.fnly = fblk;
+    }
+
+    /**
+     * Recovering try with finally block.
+     * @param fblk Finally block
+     * @return RecoveringTry Recovering try
+     */
+    public RecoveringTry<T> with(final FinallyBlock fblk) {
+        return new RecoveringTry<>(this.catches, this.recovers, fblk);
+    }
+
+    /**
+     * Execute scalar through exception handling.
+     * @param scalar Scalar
+     * @param <E> Exception
+     * @return T Value or fallback value
+     * @throws E Exception that is not recovered
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> T exec(final ThrowableScalar<T, E> scalar)
+        throws E {
+        try {
+            return scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            final Optional<RecoverBlock<T>> recover = RecoveringTry.closest(
+                this.recovers, exception
+            );
+            final Optional<CatchBlock> block = RecoveringTry.closest(
+                this.catches, exception
+            );
+            if (recover.isPresent() && recover.get().supports(exception)
+                && (!block.isPresent() || recover.get().distance(exception)
+                <= block.get().distance(exception))) {
+                return recover.get().recover(exception);
+            }
+            block.ifPresent(blk -> blk.handle(exception));
+            throw exception;
+        } finally {
+            new UncheckedFinally(this.fnly).exec();
+        }
+    }
+
+    /**
+     * Block with the closest inheritance distance.
+     * @param blocks Blocks
+     * @param exception Exception
+     * @param <B> Block type
+     * @return Block Block
+     */
+    private static <B extends CatchBlock> Optional<B> closest(
+        final Iterable<B> blocks, final Exception exception) {
+        return new ListOf<>(blocks).stream()
+            .min(Comparator.comparing(block -> block.distance(exception)));
+    }
+}
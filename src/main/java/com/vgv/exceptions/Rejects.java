@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Elements rejected by {@link CollectingFunc} together with their
+ * exceptions.
+ *
+ * <p>Each thread records into its own buffer, so parallel streams do not
+ * contend on it. Buffers are kept by this object, keyed by thread id,
+ * not by the threads, so they are released together with it rather than
+ * living as long as pooled threads do. Buffers are merged by
+ * {@link #merged()}, which should be called once the stream is consumed.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <X> Element
+ * @since 1.0
+ */
+public final class Rejects<X> implements BiConsumer<X, Exception> {
+
+    /**
+     * Buffers by thread id.
+     */
+    private final ConcurrentMap<Long, Rejects.Buffer<X>> buffers;
+
+    /**
+     * Ctor.
+     */
+    public Rejects() {
+        this.buffers = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public void accept(final X element, final Exception exception) {
+        this.buffers.computeIfAbsent(
+            Thread.currentThread().getId(), id -> new Rejects.Buffer<>()
+        ).add(element, exception);
+    }
+
+    /**
+     * Rejected elements of all threads with their exceptions.
+     * @return List Elements and exceptions
+     */
+    public List<Map.Entry<X, Exception>> merged() {
+        final List<Map.Entry<X, Exception>> merged = new ArrayList<>(0);
+        for (final Rejects.Buffer<X> buffer : this.buffers.values()) {
+            buffer.copy(merged);
+        }
+        return merged;
+    }
+
+    /**
+     * Buffer of a single thread.
+     *
+     * <p>Written by owner thread only, so its monitor is uncontended; it
+     * only makes records visible to the merging thread, and keeps records
+     * consistent if a thread id is reused by a new thread.
+     * @param <X> Element
+     */
+    private static final class Buffer<X> {
+
+        /**
+         * Rejected elements.
+         */
+        private final List<X> elements;
+
+        /**
+         * Exceptions.
+         */
+        private final List<Exception> exceptions;
+
+        /**
+         * Ctor.
+         */
+        Buffer() {
+            this.elements = new ArrayList<>(0);
+            this.exceptions = new ArrayList<>(0);
+        }
+
+        /**
+         * Record rejected element.
+         * @param element Element
+         * @param exception Exception
+         */
+        public synchronized void add(final X element,
+            final Exception exception) {
+            this.elements.add(element);
+            this.exceptions.add(exception);
+        }
+
+        /**
+         * Copy records to a list.
+         * @param target List
+         */
+        public synchronized void copy(
+            final List<Map.Entry<X, Exception>> target) {
+            for (int idx = 0; idx < this.elements.size(); ++idx) {
+                target.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        this.elements.get(idx), this.exceptions.get(idx)
+                    )
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Duration;
+import org.cactoos.list.ListOf;
+
+/**
+ * Specifies for how long failures handled by a catch block are
+ * remembered by {@link FailureCache}.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class Remember {
+
+    /**
+     * Catch block that selects failures.
+     */
+    private final CatchBlock block;
+
+    /**
+     * Time to live in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Ctor.
+     * @param cls Exception class
+     * @param live Time to live
+     */
+    public Remember(final Class<? extends Exception> cls,
+        final Duration live) {
+        this(new Catch(new ListOf<>(cls), exp -> { }), live);
+    }
+
+    /**
+     * Ctor.
+     * @param blk Catch block that selects and handles failures
+     * @param live Time to live
+     */
+    public Remember(final CatchBlock blk, final Duration live) {
+        this.block = blk;
+        this.ttl = live.toNanos();
+    }
+
+    /**
+     * Catch block that selects failures.
+     * @return CatchBlock Catch block
+     */
+    public CatchBlock block() {
+        return this.block;
+    }
+
+    /**
+     * Time to live in nanoseconds.
+     * @return Long Nanoseconds
+     */
+    public long nanos() {
+        return this.ttl;
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Exception control that corresponds to java try-with-resources statement.
+ *
+ * <p>A resource is acquired from the pool, given to the function and
+ * released back afterwards. If the function fails with an exception
+ * supported by the evict catch block, that block handles the exception and
+ * the resource is evicted from the pool instead of being released, so
+ * broken resources are not reused. A resource whose function fails with
+ * an {@link Error} is always evicted. Failures of releasing or evicting
+ * are attached to the function failure as suppressed exceptions.
+ * The whole execution goes through the origin try block.
+ *
+ * <p>Several resources are managed by nesting; inner resources are given
+ * back before outer ones, in reverse order of acquisition.
+ *
+ * <p>This class is thread safe if pool and try block are thread safe.
+ *
+ * <pre> new ResourceTry&lt;&gt;(
+ *         new Try(new Catch(SQLException.class, e -> LOGGER.error("db", e))),
+ *         new Catch(SQLRecoverableException.class, e -> LOGGER.warn("evict")),
+ *         new QueuedPool&lt;&gt;(dataSource::getConnection, 10)
+ *      ).exec(conn -> entities.get(conn, id));
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <R> Resource
+ * @since 1.0
+ */
+public final class ResourceTry<R extends AutoCloseable> {
+
+    /**
+     * Try block origin.
+     */
+    private final TryBlock origin;
+
+    /**
+     * Catch block of failures that evict the resource.
+     */
+    private final CatchBlock evict;
+
+    /**
+     * Pool of resources.
+     */
+    private final Pool<R> pool;
+
+    /**
+     * Ctor.
+     * @param blk Try block
+     * @param evt Catch block of failures that evict the resource
+     * @param pol Pool of resources
+     */
+    public ResourceTry(final TryBlock blk, final CatchBlock evt,
+        final Pool<R> pol) {
+        this.origin = blk;
+        this.evict = evt;
+        this.pool = pol;
+    }
+
+    /**
+     * Execute function with a resource through exception handling.
+     * @param func Function
+     * @param <T> Value
+     * @return T Value
+     * @throws Exception Exception
+     */
+    public <T> T exec(final ThrowableFunc<R, T, ?> func) throws Exception {
+        return this.origin.exec(() -> this.apply(func));
+    }
+
+    /**
+     * Acquire resource, apply function and give the resource back.
+     * @param func Function
+     * @param <T> Value
+     * @return T Value
+     * @throws Exception Exception
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> T apply(final ThrowableFunc<R, T, ?> func) throws Exception {
+        final R resource = this.pool.acquire();
+        final T value;
+        try {
+            value = func.apply(resource);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.recycle(resource, exception);
+            throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.discard(resource, error);
+            throw error;
+        }
+        this.pool.release(resource);
+        return value;
+    }
+
+    /**
+     * Give back resource after failure.
+     * @param resource Resource
+     * @param failure Failure of function
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void recycle(final R resource, final Exception failure) {
+        try {
+            if (this.evict.supports(failure)) {
+                this.evict.handle(failure);
+                this.pool.evict(resource);
+            } else {
+                this.pool.release(resource);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            failure.addSuppressed(exception);
+        }
+    }
+
+    /**
+     * Evict resource after error.
+     * @param resource Resource
+     * @param failure Error of function
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void discard(final R resource, final Error failure) {
+        try {
+            this.pool.evict(resource);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            failure.addSuppressed(exception);
+        }
+    }
+}
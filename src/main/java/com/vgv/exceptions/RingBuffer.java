@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>Producers claim slots with a compare-and-set on the tail sequence;
+ * the consumer owns the head sequence. Capacity is rounded up to a power
+ * of two.
+ *
+ * <p>This class is thread safe for many producers and one consumer.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Element
+ * @since 1.0
+ */
+final class RingBuffer<T> {
+
+    /**
+     * Slots.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Index mask.
+     */
+    private final int mask;
+
+    /**
+     * Next sequence to be claimed by a producer.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Next sequence to be read by the consumer.
+     */
+    private final AtomicLong head;
+
+    /**
+     * Ctor.
+     * @param capacity Minimal capacity
+     */
+    RingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+    }
+
+    /**
+     * Add element if there is room.
+     * @param element Element
+     * @return Boolean True if element was added
+     */
+    public boolean offer(final T element) {
+        boolean added = false;
+        long seq = this.tail.get();
+        while (seq - this.head.get() < this.slots.length()) {
+            if (this.tail.compareAndSet(seq, seq + 1L)) {
+                this.slots.lazySet((int) seq & this.mask, element);
+                added = true;
+                break;
+            }
+            seq = this.tail.get();
+        }
+        return added;
+    }
+
+    /**
+     * Take next element. Called by the consumer only.
+     * @return Element, null if there is no published element
+     */
+    public T poll() {
+        final long seq = this.head.get();
+        final int idx = (int) seq & this.mask;
+        final T element = this.slots.get(idx);
+        if (element != null) {
+            this.slots.lazySet(idx, null);
+            this.head.lazySet(seq + 1L);
+        }
+        return element;
+    }
+
+    /**
+     * Check if there are no claimed elements.
+     * @return Boolean Boolean
+     */
+    public boolean isEmpty() {
+        return this.tail.get() == this.head.get();
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Stream mapping that skips elements whose function fails with
+ * an exception supported by catch blocks.
+ *
+ * <p>Use it with {@link Stream#flatMap(Function)}. The function is
+ * executed by a {@link Try}; exceptions supported by its catch blocks are
+ * handled and the element is dropped, other exceptions go through,
+ * checked ones wrapped as by {@link UncheckedTry}.
+ *
+ * <p>This class is thread safe if catch blocks are thread safe. In
+ * parallel streams catch blocks are called concurrently from all worker
+ * threads.
+ *
+ * <pre> records.stream().flatMap(
+ *     new SkippingFunc&lt;&gt;(
+ *         new MultiCatch(
+ *             new Catch(ParseException.class, e -> LOGGER.warn("skip", e))
+ *         ),
+ *         parser::parse
+ *     )
+ * ).collect(Collectors.toList());
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <X> Input
+ * @param <T> Output
+ * @since 1.0
+ */
+public final class SkippingFunc<X, T> implements Function<X, Stream<T>> {
+
+    /**
+     * Exception control of the function.
+     */
+    private final Try policy;
+
+    /**
+     * Function.
+     */
+    private final ThrowableFunc<X, T, ?> func;
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param fun Function
+     */
+    public SkippingFunc(final CatchBlocks blks,
+        final ThrowableFunc<X, T, ?> fun) {
+        this(new Try(blks), fun);
+    }
+
+    /**
+     * Ctor.
+     * @param tri Exception control of the function
+     * @param fun Function
+     */
+    public SkippingFunc(final Try tri, final ThrowableFunc<X, T, ?> fun) {
+        this.policy = tri;
+        this.func = fun;
+    }
+
+    @Override
+    public Stream<T> apply(final X input) {
+        final Outcome<T> outcome = this.policy.handled(
+            () -> this.func.apply(input)
+        );
+        final Stream<T> result;
+        if (outcome.success()) {
+            result = Stream.of(outcome.orElse(null));
+        } else {
+            final Exception exception = outcome.failure().get();
+            result = Stream.empty();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Timed span of a traced execution with its child spans.
+ *
+ * <p>This class is immutable and thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class Span {
+
+    /**
+     * Name.
+     */
+    private final String label;
+
+    /**
+     * Duration in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * Whether span failed.
+     */
+    private final boolean fail;
+
+    /**
+     * Child spans.
+     */
+    private final List<Span> kids;
+
+    /**
+     * Ctor.
+     * @param name Name
+     * @param nanos Duration in nanoseconds
+     * @param failed Whether span failed
+     * @param children Child spans
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Span(final String name, final long nanos, final boolean failed,
+        final List<Span> children) {
+        this.label = name;
+        this.duration = nanos;
+        this.fail = failed;
+        this.kids = Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Name.
+     * @return String Name
+     */
+    public String name() {
+        return this.label;
+    }
+
+    /**
+     * Duration in nanoseconds.
+     * @return Long Duration
+     */
+    public long nanos() {
+        return this.duration;
+    }
+
+    /**
+     * Whether span failed.
+     * @return Boolean Boolean
+     */
+    public boolean failed() {
+        return this.fail;
+    }
+
+    /**
+     * Child spans in order of start.
+     * @return List of spans
+     */
+    public List<Span> children() {
+        return this.kids;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(0);
+        this.print(text, 0);
+        return text.toString();
+    }
+
+    /**
+     * Print span tree with indentation.
+     * @param text Output
+     * @param depth Depth of this span
+     */
+    private void print(final StringBuilder text, final int depth) {
+        for (int idx = 0; idx < depth; ++idx) {
+            text.append("  ");
+        }
+        text.append(this.label).append(' ').append(this.duration).append("ns");
+        if (this.fail) {
+            text.append(" failed");
+        }
+        text.append('\n');
+        for (final Span kid : this.kids) {
+            kid.print(text, depth + 1);
+        }
+    }
+}
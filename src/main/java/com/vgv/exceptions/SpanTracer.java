@@ -0,0 +1,259 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Recorder of nested spans per thread.
+ *
+ * <p>Spans opened by {@link TracedTry}, {@link TracedCatch} and
+ * {@link TracedFinally} on a thread are written to a preallocated buffer
+ * of that thread. The buffer is reused and, when the outermost span
+ * closes, the tree of {@link Span}s is built and reported only if the
+ * outermost span failed or took at least the given threshold. Spans that
+ * do not fit in the buffer are not recorded. Span names should be
+ * constants, since the buffer keeps references to them.
+ *
+ * <p>This class is thread safe if report consumer is thread safe.
+ *
+ * <pre> final SpanTracer tracer = new SpanTracer(
+ *         Duration.ofMillis(100L), span -> LOGGER.warn(span.toString())
+ *      );
+ *      new TracedTry("orders", new Try(...), tracer).exec(...);
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class SpanTracer {
+
+    /**
+     * Default buffer capacity.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Threshold in nanoseconds.
+     */
+    private final long threshold;
+
+    /**
+     * Consumer of reported span trees.
+     */
+    private final Consumer<Span> report;
+
+    /**
+     * Buffers per thread.
+     */
+    private final ThreadLocal<SpanTracer.Buffer> buffers;
+
+    /**
+     * Ctor.
+     * @param slow Threshold of outermost span
+     * @param rpt Consumer of reported span trees
+     */
+    public SpanTracer(final Duration slow, final Consumer<Span> rpt) {
+        this(slow, rpt, SpanTracer.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param slow Threshold of outermost span
+     * @param rpt Consumer of reported span trees
+     * @param capacity Maximum number of spans per outermost span
+     */
+    public SpanTracer(final Duration slow, final Consumer<Span> rpt,
+        final int capacity) {
+        this.threshold = slow.toNanos();
+        this.report = rpt;
+        this.buffers = ThreadLocal.withInitial(
+            () -> new SpanTracer.Buffer(capacity)
+        );
+    }
+
+    /**
+     * Open span on current thread.
+     * @param name Span name
+     */
+    void open(final String name) {
+        this.buffers.get().open(name);
+    }
+
+    /**
+     * Close innermost open span on current thread.
+     * @param failed Whether span failed
+     */
+    void close(final boolean failed) {
+        final SpanTracer.Buffer buffer = this.buffers.get();
+        if (buffer.close(failed) && buffer.reportable(this.threshold)) {
+            this.report.accept(buffer.tree());
+        }
+    }
+
+    /**
+     * Reusable span buffer of a thread.
+     *
+     * <p>There is no thread-safety guarantee.
+     */
+    private static final class Buffer {
+
+        /**
+         * Span names.
+         */
+        private final String[] names;
+
+        /**
+         * Span start times, durations once closed.
+         */
+        private final long[] times;
+
+        /**
+         * Parent span positions.
+         */
+        private final int[] parents;
+
+        /**
+         * Span failures.
+         */
+        private final boolean[] failures;
+
+        /**
+         * Number of spans.
+         */
+        private int size;
+
+        /**
+         * Position of innermost open span.
+         */
+        private int current;
+
+        /**
+         * Depth of open spans that did not fit in the buffer.
+         */
+        private int overflow;
+
+        /**
+         * Ctor.
+         * @param capacity Capacity
+         */
+        Buffer(final int capacity) {
+            this.names = new String[capacity];
+            this.times = new long[capacity];
+            this.parents = new int[capacity];
+            this.failures = new boolean[capacity];
+            this.current = -1;
+        }
+
+        /**
+         * Open span.
+         * @param name Span name
+         */
+        public void open(final String name) {
+            if (this.size == this.names.length) {
+                ++this.overflow;
+            } else {
+                this.names[this.size] = name;
+                this.parents[this.size] = this.current;
+                this.times[this.size] = System.nanoTime();
+                this.current = this.size;
+                ++this.size;
+            }
+        }
+
+        /**
+         * Close innermost open span.
+         * @param failed Whether span failed
+         * @return Boolean True if outermost span was closed
+         */
+        public boolean close(final boolean failed) {
+            final boolean outermost;
+            if (this.overflow > 0) {
+                --this.overflow;
+                outermost = false;
+            } else {
+                final int span = this.current;
+                this.times[span] = System.nanoTime() - this.times[span];
+                this.failures[span] = failed;
+                this.current = this.parents[span];
+                outermost = this.current < 0;
+            }
+            return outermost;
+        }
+
+        /**
+         * Check if closed outermost span should be reported. Buffer is
+         * reset unless it should be.
+         * @param threshold Threshold in nanoseconds
+         * @return Boolean True if span tree should be reported
+         */
+        public boolean reportable(final long threshold) {
+            final boolean result = this.failures[0]
+                || this.times[0] >= threshold;
+            if (!result) {
+                this.size = 0;
+            }
+            return result;
+        }
+
+        /**
+         * Build span tree and reset buffer.
+         * @return Span Outermost span
+         */
+        public Span tree() {
+            final List<List<Span>> kids = new ArrayList<>(
+                Collections.nCopies(this.size, null)
+            );
+            Span root = null;
+            for (int idx = this.size - 1; idx >= 0; --idx) {
+                final List<Span> children;
+                if (kids.get(idx) == null) {
+                    children = new ArrayList<>(0);
+                } else {
+                    children = kids.get(idx);
+                }
+                final Span span = new Span(
+                    this.names[idx], this.times[idx], this.failures[idx],
+                    children
+                );
+                final int parent = this.parents[idx];
+                if (parent < 0) {
+                    root = span;
+                } else {
+                    if (kids.get(parent) == null) {
+                        kids.set(parent, new LinkedList<>());
+                    }
+                    kids.get(parent).add(0, span);
+                }
+            }
+            this.size = 0;
+            return root;
+        }
+    }
+}
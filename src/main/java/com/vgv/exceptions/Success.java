@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Outcome of successful execution.
+ *
+ * <p>Use {@link Success#of(Object)} to get shared instances for
+ * {@code null}, booleans and small integers instead of allocating new ones.
+ *
+ * <p>This class is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Value
+ * @since 1.0
+ */
+public final class Success<T> implements Outcome<T> {
+
+    /**
+     * Lowest shared integer.
+     */
+    private static final int LOW = -128;
+
+    /**
+     * Highest shared integer.
+     */
+    private static final int HIGH = 127;
+
+    /**
+     * Shared outcome without value.
+     */
+    private static final Success<?> EMPTY = new Success<>(null);
+
+    /**
+     * Shared outcome of true value.
+     */
+    private static final Success<Boolean> TRUE = new Success<>(true);
+
+    /**
+     * Shared outcome of false value.
+     */
+    private static final Success<Boolean> FALSE = new Success<>(false);
+
+    /**
+     * Shared outcomes of small integers.
+     */
+    private static final Success<?>[] INTS = Success.ints();
+
+    /**
+     * Value.
+     */
+    private final T val;
+
+    /**
+     * Ctor.
+     * @param value Value
+     */
+    public Success(final T value) {
+        this.val = value;
+    }
+
+    /**
+     * Outcome of value, shared for common constants.
+     * @param value Value
+     * @param <T> Value type
+     * @return Outcome Outcome
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Outcome<T> of(final T value) {
+        final Outcome<?> result;
+        if (value == null) {
+            result = Success.EMPTY;
+        } else if (value instanceof Boolean) {
+            if ((Boolean) value) {
+                result = Success.TRUE;
+            } else {
+                result = Success.FALSE;
+            }
+        } else if (value instanceof Integer
+            && (Integer) value >= Success.LOW
+            && (Integer) value <= Success.HIGH) {
+            result = Success.INTS[(Integer) value - Success.LOW];
+        } else {
+            result = new Success<>(value);
+        }
+        return (Outcome<T>) result;
+    }
+
+    @Override
+    public boolean success() {
+        return true;
+    }
+
+    @Override
+    public T value() {
+        return this.val;
+    }
+
+    @Override
+    public T orElse(final T other) {
+        return this.val;
+    }
+
+    @Override
+    public Optional<Exception> failure() {
+        return Optional.empty();
+    }
+
+    @Override
+    public <R> Outcome<R> map(final Function<? super T, ? extends R> fun) {
+        return Success.of(fun.apply(this.val));
+    }
+
+    @Override
+    public <R> Outcome<R> flatMap(
+        final Function<? super T, Outcome<R>> fun) {
+        return fun.apply(this.val);
+    }
+
+    @Override
+    public Outcome<T> recover(final Function<Exception, ? extends T> fun) {
+        return this;
+    }
+
+    /**
+     * Shared outcomes of small integers.
+     * @return Outcomes Outcomes
+     */
+    private static Success<?>[] ints() {
+        final Success<?>[] outcomes = new Success<?>[Success.HIGH
+            - Success.LOW + 1];
+        for (int idx = 0; idx < outcomes.length; ++idx) {
+            outcomes[idx] = new Success<>(idx + Success.LOW);
+        }
+        return outcomes;
+    }
+}
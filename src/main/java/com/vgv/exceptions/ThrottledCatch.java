@@ -0,0 +1,250 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Catch block that limits the rate of handler invocations.
+ *
+ * <p>At most the given number of exceptions of the same class per second
+ * are passed to the origin block. The rest are counted and can be
+ * summarized periodically with {@link #summarize(Consumer)}, which
+ * produces lines like {@code IOException x 48,213 in last 10s}.
+ * Exceptions that are not supported by the origin block neither use
+ * the limit nor are counted. Once the limit of a window is reached,
+ * further exceptions only read the shared window and count into a striped
+ * counter, so the block is not a contention point itself during a storm.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> final ThrottledCatch blk = new ThrottledCatch(
+ *         new Catch(IOException.class, e -> LOGGER.error("io", e)), 10
+ *      );
+ *      scheduler.scheduleAtFixedRate(
+ *         () -> blk.summarize(LOGGER::warn), 10L, 10L, TimeUnit.SECONDS
+ *      );
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ThrottledCatch implements CatchBlock {
+
+    /**
+     * Catch block origin.
+     */
+    private final CatchBlock origin;
+
+    /**
+     * Maximum number of handler invocations per second per class.
+     */
+    private final long limit;
+
+    /**
+     * Rate windows per exception class.
+     */
+    private final Map<Class<?>, ThrottledCatch.Window> windows;
+
+    /**
+     * Time of last summary in nanoseconds.
+     */
+    private final AtomicLong reported;
+
+    /**
+     * Ctor.
+     * @param blk Catch block
+     * @param max Maximum number of handler invocations per second per
+     *  exception class
+     */
+    public ThrottledCatch(final CatchBlock blk, final long max) {
+        this.origin = blk;
+        this.limit = max;
+        this.windows = new ConcurrentHashMap<>(0);
+        this.reported = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public void handle(final Exception exception) {
+        if (this.origin.supports(exception)
+            && this.windows.computeIfAbsent(
+                exception.getClass(), clazz -> new ThrottledCatch.Window()
+            ).acquire(this.limit)) {
+            this.origin.handle(exception);
+        }
+    }
+
+    @Override
+    public boolean supports(final Exception exception) {
+        return this.origin.supports(exception);
+    }
+
+    @Override
+    public int distance(final Exception exception) {
+        return this.origin.distance(exception);
+    }
+
+    /**
+     * Summarize and reset counts of dropped exceptions since last summary.
+     * @param lines Consumer of summary lines, one per exception class
+     */
+    public void summarize(final Consumer<String> lines) {
+        final long now = System.nanoTime();
+        final long seconds = TimeUnit.NANOSECONDS.toSeconds(
+            now - this.reported.getAndSet(now)
+        );
+        for (final Map.Entry<Class<?>, ThrottledCatch.Window> entry
+            : this.windows.entrySet()) {
+            final long count = entry.getValue().drain();
+            if (count > 0L) {
+                lines.accept(
+                    String.format(
+                        Locale.ROOT, "%s x %,d in last %ds",
+                        entry.getKey().getSimpleName(), count, seconds
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Rate window of an exception class.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Window {
+
+        /**
+         * Current one second slot.
+         */
+        private final AtomicReference<ThrottledCatch.Slot> slot;
+
+        /**
+         * Number of dropped exceptions.
+         */
+        private final LongAdder dropped;
+
+        /**
+         * Number of dropped exceptions at last drain.
+         */
+        private final AtomicLong drained;
+
+        /**
+         * Ctor.
+         */
+        Window() {
+            this.slot = new AtomicReference<>(
+                new ThrottledCatch.Slot(System.nanoTime())
+            );
+            this.dropped = new LongAdder();
+            this.drained = new AtomicLong();
+        }
+
+        /**
+         * Try to pass an exception through the window.
+         * @param max Maximum number of passed exceptions per second
+         * @return Boolean True if exception can be handled
+         */
+        public boolean acquire(final long max) {
+            final long now = System.nanoTime();
+            ThrottledCatch.Slot current = this.slot.get();
+            if (now - current.start >= TimeUnit.SECONDS.toNanos(1L)) {
+                this.slot.compareAndSet(
+                    current, new ThrottledCatch.Slot(now)
+                );
+                current = this.slot.get();
+            }
+            final boolean acquired = current.acquire(max);
+            if (!acquired) {
+                this.dropped.increment();
+            }
+            return acquired;
+        }
+
+        /**
+         * Number of dropped exceptions since last drain. Concurrent drains
+         * only move the drained count forward, so each drop is counted by
+         * exactly one of them.
+         * @return Long Number of dropped exceptions
+         */
+        public long drain() {
+            final long total = this.dropped.sum();
+            long last = this.drained.get();
+            while (last < total
+                && !this.drained.compareAndSet(last, total)) {
+                last = this.drained.get();
+            }
+            return Math.max(0L, total - last);
+        }
+    }
+
+    /**
+     * One second slot of a rate window.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Slot {
+
+        /**
+         * Start of the slot in nanoseconds.
+         */
+        private final long start;
+
+        /**
+         * Number of passed exceptions.
+         */
+        private final AtomicLong passed;
+
+        /**
+         * Ctor.
+         * @param begin Start of the slot in nanoseconds
+         */
+        Slot(final long begin) {
+            this.start = begin;
+            this.passed = new AtomicLong();
+        }
+
+        /**
+         * Take one of the passes of the slot.
+         * @param max Maximum number of passes
+         * @return Boolean True if pass was taken
+         */
+        public boolean acquire(final long max) {
+            long count = this.passed.get();
+            boolean acquired = false;
+            while (!acquired && count < max) {
+                acquired = this.passed.compareAndSet(count, count + 1L);
+                count = this.passed.get();
+            }
+            return acquired;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder of throwables written by {@link ThrowableEncoder}.
+ *
+ * <p>Throwables are rebuilt as {@link DecodedException}s. If a class
+ * loader is given, the original class is instantiated instead when it is
+ * a {@link Throwable} with a public constructor that takes a message.
+ * The decoder keeps the dictionary of the stream, so it must read the
+ * stream from its start. A throwable that is not completely in the buffer
+ * is not read at all, so more bytes can be read from a channel and the
+ * throwable decoded again. The dictionary is forgotten at every reset
+ * marker written by the encoder. Lengths are checked against the bytes
+ * left in the buffer before anything is allocated. A stream is rejected
+ * as malformed if it declares a length above a given maximum, refers to
+ * unknown dictionary entries, grows the dictionary beyond a given size
+ * without a reset marker or nests throwables deeper than the encoder
+ * does.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ThrowableDecoder {
+
+    /**
+     * Default maximum length of strings and stack traces.
+     */
+    private static final int LENGTH = 1 << 20;
+
+    /**
+     * Class loader of original classes, null to never load them.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Maximum length of strings in bytes and of stack traces in frames.
+     */
+    private final int length;
+
+    /**
+     * Maximum number of dictionary entries without reset marker.
+     */
+    private final int entries;
+
+    /**
+     * Strings in order of ids.
+     */
+    private final List<String> strings;
+
+    /**
+     * Stack frames in order of ids.
+     */
+    private final List<StackTraceElement> frames;
+
+    /**
+     * Ctor.
+     */
+    public ThrowableDecoder() {
+        this(null);
+    }
+
+    /**
+     * Ctor.
+     * @param classes Class loader of original exception classes, null to
+     *  always rebuild throwables as {@link DecodedException}
+     */
+    public ThrowableDecoder(final ClassLoader classes) {
+        this(classes, ThrowableDecoder.LENGTH, ThrowableEncoder.ENTRIES);
+    }
+
+    /**
+     * Ctor.
+     * @param classes Class loader of original exception classes, null to
+     *  always rebuild throwables as {@link DecodedException}
+     * @param max Maximum length of strings in bytes and of stack traces
+     *  in frames
+     * @param size Maximum number of dictionary entries, as given to the
+     *  encoder
+     */
+    public ThrowableDecoder(final ClassLoader classes, final int max,
+        final int size) {
+        this.loader = classes;
+        this.length = max;
+        this.entries = size;
+        this.strings = new ArrayList<>(0);
+        this.frames = new ArrayList<>(0);
+    }
+
+    /**
+     * Decode throwable. If it is not completely in the buffer or is
+     * malformed, neither the buffer nor the dictionary are changed.
+     * @param in Buffer
+     * @return Throwable Throwable
+     * @throws BufferUnderflowException If throwable is not complete
+     * @throws IllegalArgumentException If throwable is malformed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Throwable decode(final ByteBuffer in) {
+        final int position = in.position();
+        final int strs = this.strings.size();
+        final int frms = this.frames.size();
+        try {
+            this.marker(in);
+            return this.read(in, 0);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            in.position(position);
+            while (this.strings.size() > strs) {
+                this.strings.remove(this.strings.size() - 1);
+            }
+            while (this.frames.size() > frms) {
+                this.frames.remove(this.frames.size() - 1);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Forget all read strings and frames. Streams written by
+     * {@link ThrowableEncoder} signal this with a reset marker, so it is
+     * only needed to start decoding a new stream.
+     */
+    public void reset() {
+        this.strings.clear();
+        this.frames.clear();
+    }
+
+    /**
+     * Read unsigned varint.
+     * @param in Buffer
+     * @return Long Value
+     */
+    static long varint(final ByteBuffer in) {
+        long result = 0L;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift >= Long.SIZE) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            current = in.get();
+            result |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return result;
+    }
+
+    /**
+     * Read throwable with its cause and suppressed exceptions.
+     * @param in Buffer
+     * @param depth Depth of throwable in the tree
+     * @return Throwable Throwable
+     */
+    private Throwable read(final ByteBuffer in, final int depth) {
+        if (depth > ThrowableEncoder.DEPTH) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Throwables nested deeper than %d",
+                    ThrowableEncoder.DEPTH
+                )
+            );
+        }
+        final String clazz = this.string(in);
+        final String message = this.string(in);
+        final StackTraceElement[] trace =
+            new StackTraceElement[this.count(in)];
+        for (int idx = 0; idx < trace.length; ++idx) {
+            trace[idx] = this.frame(in);
+        }
+        Throwable cause = null;
+        if (in.get() != 0) {
+            cause = this.read(in, depth + 1);
+        }
+        final Throwable result = this.rebuilt(clazz, message, cause);
+        result.setStackTrace(trace);
+        final int suppressed = this.count(in);
+        for (int idx = 0; idx < suppressed; ++idx) {
+            result.addSuppressed(this.read(in, depth + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Instance of original class if it can be created, otherwise
+     * {@link DecodedException}.
+     * @param clazz Class name
+     * @param message Message
+     * @param cause Cause or null
+     * @return Throwable Throwable
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Throwable rebuilt(final String clazz, final String message,
+        final Throwable cause) {
+        Throwable result = null;
+        if (this.loader != null) {
+            try {
+                final Class<?> type = Class.forName(clazz, false, this.loader);
+                if (Throwable.class.isAssignableFrom(type)) {
+                    result = (Throwable) type.getConstructor(String.class)
+                        .newInstance(message);
+                    if (cause != null) {
+                        result.initCause(cause);
+                    }
+                }
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final ReflectiveOperationException
+                | RuntimeException | LinkageError ex) {
+                result = null;
+            }
+        }
+        if (result == null) {
+            result = new DecodedException(clazz, message);
+            if (cause != null) {
+                result.initCause(cause);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read string reference.
+     * @param in Buffer
+     * @return String String or null
+     */
+    private String string(final ByteBuffer in) {
+        final int id = ThrowableDecoder.id(in, this.strings.size());
+        final String result;
+        if (id == 0) {
+            result = null;
+        } else if (id == this.strings.size() + 1) {
+            final byte[] bytes = new byte[this.count(in)];
+            in.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+            this.strings.add(result);
+        } else {
+            result = this.strings.get(id - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Read stack frame reference.
+     * @param in Buffer
+     * @return StackTraceElement Stack frame
+     */
+    private StackTraceElement frame(final ByteBuffer in) {
+        final int id = ThrowableDecoder.id(in, this.frames.size());
+        final StackTraceElement result;
+        if (id == 0) {
+            throw new IllegalArgumentException("Stack frame id 0");
+        } else if (id == this.frames.size() + 1) {
+            final String clazz = this.string(in);
+            final String method = this.string(in);
+            final String file = this.string(in);
+            final int zigzag = (int) ThrowableDecoder.varint(in);
+            result = new StackTraceElement(
+                clazz, method, file, (zigzag >>> 1) ^ -(zigzag & 1)
+            );
+            this.frames.add(result);
+        } else {
+            result = this.frames.get(id - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Read reset marker, if there is one, and forget the dictionary.
+     * @param in Buffer
+     */
+    private void marker(final ByteBuffer in) {
+        if (!in.hasRemaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (in.get(in.position()) == 0) {
+            in.get();
+            this.reset();
+        } else if (this.strings.size() + this.frames.size()
+            >= this.entries) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Dictionary exceeds %d entries without reset marker",
+                    this.entries
+                )
+            );
+        }
+    }
+
+    /**
+     * Read number of items that take at least a byte each.
+     * @param in Buffer
+     * @return Int Number of items
+     * @throws BufferUnderflowException If there are fewer bytes left
+     */
+    private int count(final ByteBuffer in) {
+        final long value = ThrowableDecoder.varint(in);
+        if (value < 0L || value > this.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Length %d is out of range, maximum is %d",
+                    value, this.length
+                )
+            );
+        }
+        if (value > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read dictionary id, either known or the next one.
+     * @param in Buffer
+     * @param size Number of known entries
+     * @return Int Id
+     */
+    private static int id(final ByteBuffer in, final int size) {
+        final long value = ThrowableDecoder.varint(in);
+        if (value < 0L || value > size + 1L) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Dictionary id %d is unknown, %d entries are read",
+                    value, size
+                )
+            );
+        }
+        return (int) value;
+    }
+}
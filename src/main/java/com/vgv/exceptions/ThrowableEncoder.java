@@ -0,0 +1,288 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming encoder of throwables into compact binary form.
+ *
+ * <p>A throwable is written as its class name, message, stack frames,
+ * cause and suppressed exceptions. Strings and stack frames are written
+ * to the stream once and referenced by varint id afterwards, so repeated
+ * failures take a few bytes per frame. The stream must be decoded from its
+ * start by a single {@link ThrowableDecoder}. Once the dictionary holds a
+ * given number of entries, or after {@link #reset()}, the encoder forgets
+ * it and writes a reset marker, a zero byte where the class name of the
+ * next throwable is expected, so the decoder forgets its dictionary at the
+ * same point of the stream and neither of them grows without bound.
+ *
+ * <p>Encoding writes straight into the given buffer, which can be a
+ * direct buffer that is then written to a channel. A throwable that does
+ * not fit is not written at all, so the buffer can be drained and the
+ * throwable encoded again:
+ *
+ * <pre> try {
+ *         encoder.encode(exception, buffer);
+ *      } catch (final BufferOverflowException ex) {
+ *         buffer.flip();
+ *         channel.write(buffer);
+ *         buffer.compact();
+ *         encoder.encode(exception, buffer);
+ *      }
+ * </pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ThrowableEncoder {
+
+    /**
+     * Maximum depth of encoded causes and suppressed exceptions.
+     */
+    static final int DEPTH = 16;
+
+    /**
+     * Default maximum number of dictionary entries.
+     */
+    static final int ENTRIES = 1 << 16;
+
+    /**
+     * Maximum number of dictionary entries before it is reset.
+     */
+    private final int entries;
+
+    /**
+     * Ids of written strings.
+     */
+    private final Map<String, Integer> strings;
+
+    /**
+     * Written strings in order of ids.
+     */
+    private final List<String> written;
+
+    /**
+     * Ids of written stack frames.
+     */
+    private final Map<StackTraceElement, Integer> frames;
+
+    /**
+     * Written stack frames in order of ids.
+     */
+    private final List<StackTraceElement> traced;
+
+    /**
+     * Whether reset marker is to be written before next throwable.
+     */
+    private boolean pending;
+
+    /**
+     * Ctor.
+     */
+    public ThrowableEncoder() {
+        this(ThrowableEncoder.ENTRIES);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum number of strings and frames in the dictionary
+     *  before it is reset
+     */
+    public ThrowableEncoder(final int max) {
+        this.entries = max;
+        this.strings = new HashMap<>(0);
+        this.written = new ArrayList<>(0);
+        this.frames = new HashMap<>(0);
+        this.traced = new ArrayList<>(0);
+    }
+
+    /**
+     * Encode throwable. If it does not fit into the buffer, neither the
+     * buffer nor the dictionary are changed.
+     * @param throwable Throwable
+     * @param out Buffer
+     * @throws BufferOverflowException If throwable does not fit
+     */
+    public void encode(final Throwable throwable, final ByteBuffer out) {
+        if (this.written.size() + this.traced.size() >= this.entries) {
+            this.reset();
+        }
+        final int position = out.position();
+        final int strs = this.written.size();
+        final int frms = this.traced.size();
+        try {
+            if (this.pending) {
+                out.put((byte) 0);
+            }
+            this.write(
+                throwable, out,
+                Collections.newSetFromMap(new IdentityHashMap<>(0)), 0
+            );
+            this.pending = false;
+        } catch (final BufferOverflowException ex) {
+            out.position(position);
+            this.rollback(strs, frms);
+            throw ex;
+        }
+    }
+
+    /**
+     * Forget all written strings and frames; the next throwable is
+     * preceded by a reset marker.
+     */
+    public void reset() {
+        this.rollback(0, 0);
+        this.pending = true;
+    }
+
+    /**
+     * Write unsigned varint.
+     * @param value Value
+     * @param out Buffer
+     */
+    static void varint(final long value, final ByteBuffer out) {
+        long rest = value;
+        while ((rest & ~0x7FL) != 0L) {
+            out.put((byte) (rest & 0x7FL | 0x80L));
+            rest >>>= 7;
+        }
+        out.put((byte) rest);
+    }
+
+    /**
+     * Write throwable with its cause and suppressed exceptions. Throwables
+     * that were already written in this tree, or that are too deep, are
+     * left out.
+     * @param throwable Throwable
+     * @param out Buffer
+     * @param seen Throwables written in this tree
+     * @param depth Depth of throwable in this tree
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void write(final Throwable throwable, final ByteBuffer out,
+        final Set<Throwable> seen, final int depth) {
+        seen.add(throwable);
+        this.string(throwable.getClass().getName(), out);
+        this.string(throwable.getMessage(), out);
+        final StackTraceElement[] trace = throwable.getStackTrace();
+        ThrowableEncoder.varint(trace.length, out);
+        for (final StackTraceElement frame : trace) {
+            this.frame(frame, out);
+        }
+        final Throwable cause = throwable.getCause();
+        if (cause == null || seen.contains(cause)
+            || depth == ThrowableEncoder.DEPTH) {
+            out.put((byte) 0);
+        } else {
+            out.put((byte) 1);
+            this.write(cause, out, seen, depth + 1);
+        }
+        final List<Throwable> suppressed = new ArrayList<>(0);
+        if (depth < ThrowableEncoder.DEPTH) {
+            for (final Throwable sup : throwable.getSuppressed()) {
+                if (!seen.contains(sup)) {
+                    suppressed.add(sup);
+                    seen.add(sup);
+                }
+            }
+        }
+        ThrowableEncoder.varint(suppressed.size(), out);
+        for (final Throwable sup : suppressed) {
+            this.write(sup, out, seen, depth + 1);
+        }
+    }
+
+    /**
+     * Write string reference, with its bytes if it was not written yet.
+     * Id zero stands for null.
+     * @param value String or null
+     * @param out Buffer
+     */
+    private void string(final String value, final ByteBuffer out) {
+        if (value == null) {
+            ThrowableEncoder.varint(0L, out);
+        } else {
+            final Integer known = this.strings.get(value);
+            if (known == null) {
+                this.written.add(value);
+                this.strings.put(value, this.written.size());
+                ThrowableEncoder.varint(this.written.size(), out);
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                ThrowableEncoder.varint(bytes.length, out);
+                out.put(bytes);
+            } else {
+                ThrowableEncoder.varint(known, out);
+            }
+        }
+    }
+
+    /**
+     * Write stack frame reference, with its parts if it was not written
+     * yet.
+     * @param frame Stack frame
+     * @param out Buffer
+     */
+    private void frame(final StackTraceElement frame, final ByteBuffer out) {
+        final Integer known = this.frames.get(frame);
+        if (known == null) {
+            this.traced.add(frame);
+            this.frames.put(frame, this.traced.size());
+            ThrowableEncoder.varint(this.traced.size(), out);
+            this.string(frame.getClassName(), out);
+            this.string(frame.getMethodName(), out);
+            this.string(frame.getFileName(), out);
+            final int line = frame.getLineNumber();
+            ThrowableEncoder.varint((line << 1) ^ (line >> 31), out);
+        } else {
+            ThrowableEncoder.varint(known, out);
+        }
+    }
+
+    /**
+     * Forget strings and frames written after given counts.
+     * @param strs Number of strings to keep
+     * @param frms Number of frames to keep
+     */
+    private void rollback(final int strs, final int frms) {
+        while (this.written.size() > strs) {
+            this.strings.remove(this.written.remove(this.written.size() - 1));
+        }
+        while (this.traced.size() > frms) {
+            this.frames.remove(this.traced.remove(this.traced.size() - 1));
+        }
+    }
+}
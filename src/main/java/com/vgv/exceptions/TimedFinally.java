@@ -0,0 +1,118 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Finally block with a time budget.
+ *
+ * <p>The origin block is executed on an executor and {@link #exec()} waits
+ * for it at most the given budget. If the block fails within the budget
+ * its failure is thrown; a throwable that is neither an exception nor an
+ * error is thrown wrapped in {@link ExecutionException}. If it overruns
+ * the budget, {@link #exec()} returns, the block is cancelled with an
+ * interrupt and the overrun is reported to the report catch block as
+ * {@link TimeoutException}. If the waiting thread is interrupted, the
+ * block is cancelled as well and {@link InterruptedException} is thrown
+ * with interrupt flag restored.
+ *
+ * <p>This class is thread safe if executor is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TimedFinally implements FinallyBlock {
+
+    /**
+     * Finally block origin.
+     */
+    private final FinallyBlock origin;
+
+    /**
+     * Executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Time budget in nanoseconds.
+     */
+    private final long budget;
+
+    /**
+     * Catch block that handles overruns.
+     */
+    private final CatchBlock report;
+
+    /**
+     * Ctor.
+     * @param block Finally block
+     * @param exec Executor
+     * @param time Time budget
+     * @param rpt Catch block that handles overruns
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public TimedFinally(final FinallyBlock block, final ExecutorService exec,
+        final Duration time, final CatchBlock rpt) {
+        this.origin = block;
+        this.executor = exec;
+        this.budget = time.toNanos();
+        this.report = rpt;
+    }
+
+    @Override
+    public void exec() throws Exception {
+        final Future<?> future = this.executor.submit(
+            () -> {
+                this.origin.exec();
+                return null;
+            }
+        );
+        try {
+            future.get(this.budget, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException exception) {
+            future.cancel(true);
+            this.report.handle(exception);
+        } catch (final InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw exception;
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        }
+    }
+}
@@ -67,6 +67,16 @@ public final class Try implements TryBlock {
      */
     private final CatchBlocks blocks;
 
+    /**
+     * Lifecycle listener.
+     */
+    private final TryListener listener;
+
+    /**
+     * Whether listener is other than {@link TryListener.Silent}.
+     */
+    private final boolean listened;
+
     /**
      * Ctor.
      * @param blks List of catch blocks.
@@ -80,33 +90,176 @@ public final class Try implements TryBlock {
      * @param blks Catch bloks
      */
     public Try(final CatchBlocks blks) {
+        this(blks, new TryListener.Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param blks Catch bloks
+     * @param lstnr Lifecycle listener
+     */
+    public Try(final CatchBlocks blks, final TryListener lstnr) {
         this.blocks = blks;
+        this.listener = lstnr;
+        this.listened = !(lstnr instanceof TryListener.Silent);
     }
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public <T, E extends Exception> T exec(final ThrowableScalar<T, E> scalar)
         throws E {
+        this.listener.onStart();
+        final T result;
         try {
-            return scalar.value();
+            result = scalar.value();
             // @checkstyle IllegalCatchCheck (1 line)
         } catch (final Exception exception) {
-            this.blocks.handle(exception);
+            this.failed(exception);
             throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
         }
+        this.listener.onSuccess();
+        return result;
     }
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public <E extends Exception> void exec(final ThrowableVoid<E> proc)
         throws E {
+        this.listener.onStart();
         try {
             proc.exec();
             // @checkstyle IllegalCatchCheck (1 line)
         } catch (final Exception exception) {
-            this.blocks.handle(exception);
+            this.failed(exception);
+            throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> int execInt(
+        final ThrowableIntScalar<E> scalar) throws E {
+        this.listener.onStart();
+        final int result;
+        try {
+            result = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.failed(exception);
+            throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> long execLong(
+        final ThrowableLongScalar<E> scalar) throws E {
+        this.listener.onStart();
+        final long result;
+        try {
+            result = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.failed(exception);
+            throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> double execDouble(
+        final ThrowableDoubleScalar<E> scalar) throws E {
+        this.listener.onStart();
+        final double result;
+        try {
+            result = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.failed(exception);
             throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> boolean execBoolean(
+        final ThrowableBooleanScalar<E> scalar) throws E {
+        this.listener.onStart();
+        final boolean result;
+        try {
+            result = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.failed(exception);
+            throw exception;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T, E extends Exception> Outcome<T> attempt(
+        final ThrowableScalar<T, E> scalar) {
+        final T value;
+        this.listener.onStart();
+        try {
+            value = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.failed(exception);
+            return new Failure<>(exception);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
         }
+        this.listener.onSuccess();
+        return Success.of(value);
+    }
+
+    /**
+     * Execute all scalars through exception handling and collect
+     * failures. See {@link BatchTry} for other batch modes.
+     * @param scalars Scalars
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Batch Values and failures
+     */
+    public <T, E extends Exception> Batch<T> execAll(
+        final Iterable<? extends ThrowableScalar<T, E>> scalars) {
+        return new BatchTry(this.blocks).exec(scalars);
     }
 
     /**
@@ -116,7 +269,18 @@ public final class Try implements TryBlock {
      * @return Checkable Checkable
      */
     public TryBlock with(final FinallyBlock fnly) {
-        return new Try.WithFinally(this, fnly);
+        return new Try.WithFinally(
+            this, new Try.ListenedFinally(fnly, this.listener)
+        );
+    }
+
+    /**
+     * Creates new Try object that reports its lifecycle to a listener.
+     * @param lstnr Lifecycle listener
+     * @return Try Try
+     */
+    public Try with(final TryListener lstnr) {
+        return new Try(this.blocks, lstnr);
     }
 
     /**
@@ -127,7 +291,7 @@ public final class Try implements TryBlock {
      */
     public <T extends Exception> MappedTryBlock<T> with(
         final Function<Exception, T> thrws) {
-        return new Try.WithThrows<>(thrws, this.blocks);
+        return new Try.WithThrows<>(thrws, this.blocks, this.listener);
     }
 
     /**
@@ -140,7 +304,81 @@ public final class Try implements TryBlock {
      */
     public <E extends Exception> MappedTryBlock<E> with(final FinallyBlock fnly,
         final Function<Exception, E> thrws) {
-        return new Try.WithThrowsFinally<>(this.with(thrws), fnly);
+        return new Try.WithThrowsFinally<>(
+            this.with(thrws), new Try.ListenedFinally(fnly, this.listener)
+        );
+    }
+
+    /**
+     * Checks if exception is supported by catch blocks of this try.
+     * @param exception Exception
+     * @return Boolean Boolean
+     */
+    boolean supports(final Exception exception) {
+        return this.blocks.supports(exception);
+    }
+
+    /**
+     * Execute scalar like {@link #attempt(ThrowableScalar)}, but let
+     * exceptions not supported by catch blocks go through, checked ones
+     * wrapped as by {@link UncheckedTry}. Catch blocks are asked for
+     * support once per failure.
+     * @param scalar Scalar
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Outcome Value or supported exception
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    <T, E extends Exception> Outcome<T> handled(
+        final ThrowableScalar<T, E> scalar) {
+        final T value;
+        this.listener.onStart();
+        try {
+            value = scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            if (!this.failed(exception, true)) {
+                throw new Unchecked(exception).value();
+            }
+            return new Failure<>(exception);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error error) {
+            this.listener.onError(error);
+            throw error;
+        }
+        this.listener.onSuccess();
+        return Success.of(value);
+    }
+
+    /**
+     * Handle exception and report failure to listener, even if a catch
+     * block throws.
+     * @param exception Exception
+     */
+    private void failed(final Exception exception) {
+        this.failed(exception, false);
+    }
+
+    /**
+     * Handle exception and report failure to listener, even if a catch
+     * block throws. Whether catch blocks support the exception is only
+     * checked if it is needed or a listener is attached.
+     * @param exception Exception
+     * @param needed Whether support is needed by the caller
+     * @return Boolean True if exception is supported, false if it is not
+     *  or support was not checked
+     */
+    private boolean failed(final Exception exception, final boolean needed) {
+        final boolean supported = (needed || this.listened)
+            && this.blocks.supports(exception);
+        try {
+            this.blocks.handle(exception);
+        } finally {
+            if (this.listened) {
+                this.listener.onFailure(exception, supported);
+            }
+        }
+        return supported;
     }
 
     /**
@@ -190,6 +428,56 @@ public final class Try implements TryBlock {
                 new UncheckedFinally(this.fnly).exec();
             }
         }
+
+        @Override
+        public <E extends Exception> int execInt(
+            final ThrowableIntScalar<E> scalar) throws E {
+            try {
+                return this.origin.execInt(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public <E extends Exception> long execLong(
+            final ThrowableLongScalar<E> scalar) throws E {
+            try {
+                return this.origin.execLong(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public <E extends Exception> double execDouble(
+            final ThrowableDoubleScalar<E> scalar) throws E {
+            try {
+                return this.origin.execDouble(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public <E extends Exception> boolean execBoolean(
+            final ThrowableBooleanScalar<E> scalar) throws E {
+            try {
+                return this.origin.execBoolean(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public <T, E extends Exception> Outcome<T> attempt(
+            final ThrowableScalar<T, E> scalar) {
+            try {
+                return this.origin.attempt(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
     }
 
     /**
@@ -211,6 +499,16 @@ public final class Try implements TryBlock {
          */
         private final CatchBlocks blocks;
 
+        /**
+         * Lifecycle listener.
+         */
+        private final TryListener listener;
+
+        /**
+         * Whether listener is other than {@link TryListener.Silent}.
+         */
+        private final boolean listened;
+
         /**
          * Ctor.
          * @param func Function
@@ -218,63 +516,162 @@ public final class Try implements TryBlock {
          */
         WithThrows(final Function<Exception, E> func,
             final Iterable<CatchBlock> blcks) {
-            this(func, new MultiCatch(blcks));
+            this(func, new MultiCatch(blcks), new TryListener.Silent());
         }
 
         /**
          * Ctor.
          * @param func Func
          * @param blcks Catch blocks
+         * @param lstnr Lifecycle listener
          */
         WithThrows(final Function<Exception, E> func,
-            final CatchBlocks blcks) {
+            final CatchBlocks blcks, final TryListener lstnr) {
             this.fun = func;
             this.blocks = blcks;
+            this.listener = lstnr;
+            this.listened = !(lstnr instanceof TryListener.Silent);
         }
 
         @Override
         @SuppressWarnings("PMD.AvoidCatchingGenericException")
         public <T> T exec(final ThrowableScalar<T, Exception> scalar) throws E {
+            this.listener.onStart();
+            final T result;
             try {
-                return scalar.value();
-                // @checkstyle IllegalCatchCheck (1 line)
-            } catch (final RuntimeException exception) {
-                if (this.blocks.supports(exception)) {
-                    this.handleAndThrow(exception);
-                }
-                throw exception;
+                result = scalar.value();
                 // @checkstyle IllegalCatchCheck (1 line)
             } catch (final Exception exception) {
-                this.blocks.handle(exception);
-                throw this.transformedException(exception);
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
             }
+            this.listener.onSuccess();
+            return result;
         }
 
         @Override
         @SuppressWarnings("PMD.AvoidCatchingGenericException")
         public void exec(final ThrowableVoid<Exception> proc) throws E {
+            this.listener.onStart();
             try {
                 proc.exec();
                 // @checkstyle IllegalCatchCheck (1 line)
-            } catch (final RuntimeException exception) {
-                if (this.blocks.supports(exception)) {
-                    this.handleAndThrow(exception);
-                }
-                throw exception;
+            } catch (final Exception exception) {
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
+            }
+            this.listener.onSuccess();
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public int execInt(final ThrowableIntScalar<Exception> scalar)
+            throws E {
+            this.listener.onStart();
+            final int result;
+            try {
+                result = scalar.value();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
+            }
+            this.listener.onSuccess();
+            return result;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public long execLong(final ThrowableLongScalar<Exception> scalar)
+            throws E {
+            this.listener.onStart();
+            final long result;
+            try {
+                result = scalar.value();
                 // @checkstyle IllegalCatchCheck (1 line)
             } catch (final Exception exception) {
-                this.handleAndThrow(exception);
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
+            }
+            this.listener.onSuccess();
+            return result;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public double execDouble(final ThrowableDoubleScalar<Exception> scalar)
+            throws E {
+            this.listener.onStart();
+            final double result;
+            try {
+                result = scalar.value();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
+            }
+            this.listener.onSuccess();
+            return result;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public boolean execBoolean(final ThrowableBooleanScalar<Exception> scalar)
+            throws E {
+            this.listener.onStart();
+            final boolean result;
+            try {
+                result = scalar.value();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception exception) {
+                throw this.failure(exception);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Error error) {
+                this.listener.onError(error);
+                throw error;
             }
+            this.listener.onSuccess();
+            return result;
         }
 
         /**
-         * Handle exception.
+         * Handle exception and return the one to be thrown.
+         * Runtime exceptions that are not supported by catch blocks
+         * go through. Failure is reported to listener even if a catch
+         * block throws; support of checked exceptions is only checked if
+         * a listener is attached.
          * @param exception Exception
-         * @throws E Exception
+         * @return E Exception to be thrown
          */
-        private void handleAndThrow(final Exception exception) throws E {
-            this.blocks.handle(exception);
-            throw this.transformedException(exception);
+        private E failure(final Exception exception) {
+            final boolean runtime = exception instanceof RuntimeException;
+            final boolean supported = (runtime || this.listened)
+                && this.blocks.supports(exception);
+            if (runtime && !supported) {
+                this.listener.onFailure(exception, false);
+                throw (RuntimeException) exception;
+            }
+            try {
+                this.blocks.handle(exception);
+            } finally {
+                this.listener.onFailure(exception, supported);
+            }
+            return this.transformedException(exception);
         }
 
         /**
@@ -293,11 +690,49 @@ public final class Try implements TryBlock {
                 result = exception;
             } else {
                 result = transformed;
+                this.listener.onMapped(exception, result);
             }
             return (E) result;
         }
     }
 
+    /**
+     * Finally block that reports its execution to a listener.
+     *
+     * <p>There is no thread-safety guarantee.
+     */
+    private static final class ListenedFinally implements FinallyBlock {
+
+        /**
+         * Finally block origin.
+         */
+        private final FinallyBlock origin;
+
+        /**
+         * Lifecycle listener.
+         */
+        private final TryListener listener;
+
+        /**
+         * Ctor.
+         * @param fblk Finally block
+         * @param lstnr Lifecycle listener
+         */
+        ListenedFinally(final FinallyBlock fblk, final TryListener lstnr) {
+            this.origin = fblk;
+            this.listener = lstnr;
+        }
+
+        @Override
+        public void exec() throws Exception {
+            try {
+                this.origin.exec();
+            } finally {
+                this.listener.onFinally();
+            }
+        }
+    }
+
     /**
      * TryBlock object with additional finally/throws functionality.
      *
@@ -345,5 +780,45 @@ public final class Try implements TryBlock {
                 new UncheckedFinally(this.fnly).exec();
             }
         }
+
+        @Override
+        public int execInt(final ThrowableIntScalar<Exception> scalar)
+            throws E {
+            try {
+                return this.origin.execInt(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public long execLong(final ThrowableLongScalar<Exception> scalar)
+            throws E {
+            try {
+                return this.origin.execLong(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public double execDouble(final ThrowableDoubleScalar<Exception> scalar)
+            throws E {
+            try {
+                return this.origin.execDouble(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
+
+        @Override
+        public boolean execBoolean(final ThrowableBooleanScalar<Exception> scalar)
+            throws E {
+            try {
+                return this.origin.execBoolean(scalar);
+            } finally {
+                new UncheckedFinally(this.fnly).exec();
+            }
+        }
     }
 }
@@ -48,4 +48,73 @@ public interface TryBlock {
      * @throws E Exception
      */
     <E extends Exception> void exec(ThrowableVoid<E> proc) throws E;
+
+    /**
+     * Execute scalar of primitive int value through exception handling.
+     * @param scalar Scalar
+     * @param <E> Exception
+     * @return Value
+     * @throws E Exception
+     */
+    default <E extends Exception> int execInt(
+        final ThrowableIntScalar<E> scalar) throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive long value through exception handling.
+     * @param scalar Scalar
+     * @param <E> Exception
+     * @return Value
+     * @throws E Exception
+     */
+    default <E extends Exception> long execLong(
+        final ThrowableLongScalar<E> scalar) throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive double value through exception handling.
+     * @param scalar Scalar
+     * @param <E> Exception
+     * @return Value
+     * @throws E Exception
+     */
+    default <E extends Exception> double execDouble(
+        final ThrowableDoubleScalar<E> scalar) throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar of primitive boolean value through exception handling.
+     * @param scalar Scalar
+     * @param <E> Exception
+     * @return Value
+     * @throws E Exception
+     */
+    default <E extends Exception> boolean execBoolean(
+        final ThrowableBooleanScalar<E> scalar) throws E {
+        return this.exec(scalar::value);
+    }
+
+    /**
+     * Execute scalar through exception handling and return its outcome
+     * instead of throwing an exception.
+     * @param scalar Scalar
+     * @param <T> Scalar type
+     * @param <E> Exception
+     * @return Outcome Outcome
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    default <T, E extends Exception> Outcome<T> attempt(
+        final ThrowableScalar<T, E> scalar) {
+        Outcome<T> outcome;
+        try {
+            outcome = Success.of(this.exec(scalar));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            outcome = new Failure<>(exception);
+        }
+        return outcome;
+    }
 }
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Sink of exception handling events.
+ *
+ * <p>Events are produced by {@link FlightListener}, {@link FlightCatch}
+ * and {@link FlightFinally}. Executions and dispatches are begun when they
+ * start and completed by the caller, so the sink measures their duration
+ * itself and decides which ones are slow enough to record. See
+ * {@link FlightEvents} for the sink that writes them to JDK Flight
+ * Recorder.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public interface TryEvents {
+
+    /**
+     * Try block execution started.
+     * @return Execution Execution to be completed when try block completes
+     */
+    TryEvents.Execution execution();
+
+    /**
+     * Catch block started handling an exception.
+     * @param block Catch block name
+     * @param exception Exception
+     * @param distance Distance of catch block to exception class
+     * @return Dispatch Dispatch to be completed when handler completes
+     */
+    TryEvents.Dispatch dispatch(String block, Exception exception,
+        int distance);
+
+    /**
+     * Exception was mapped to another one.
+     * @param exception Original exception
+     * @param mapped Mapped exception
+     */
+    void mapping(Exception exception, Exception mapped);
+
+    /**
+     * Finally block failed.
+     * @param exception Exception
+     */
+    void finallyFailure(Exception exception);
+
+    /**
+     * Execution of try block in progress.
+     */
+    interface Execution {
+
+        /**
+         * Try block completed without exception.
+         */
+        void success();
+
+        /**
+         * Try block failed.
+         * @param failure Exception or error
+         * @param handled True if catch blocks support the failure
+         */
+        void failure(Throwable failure, boolean handled);
+    }
+
+    /**
+     * Dispatch of exception to catch block in progress.
+     */
+    interface Dispatch {
+
+        /**
+         * Catch block handler completed.
+         */
+        void done();
+    }
+}
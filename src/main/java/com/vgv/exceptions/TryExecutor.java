@@ -0,0 +1,399 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Executor service that executes every submitted task through
+ * a {@link TryBlock}.
+ *
+ * <p>Tasks given to {@link #execute(Runnable)} are executed with
+ * {@link TryBlock#attempt(ThrowableScalar)}: failures are handled by catch
+ * blocks and never reach the pool thread, so they do not kill it. With a
+ * {@link Try}, failures that none of its catch blocks supports are then
+ * passed to a fallback handler, by default the uncaught exception handler
+ * of the pool thread, so none of them vanishes. Any other try block can
+ * not tell whether a failure was supported, so it passes every failure to
+ * a given fallback handler and none by default. Failures of submitted
+ * tasks are handled by catch blocks and then completed into their
+ * {@link Future} as usual.
+ *
+ * <p>Every task is wrapped into a single object that is both the task
+ * given to the origin executor and the scalar given to try block.
+ *
+ * <p>This class is thread safe if try block is thread safe.
+ *
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class TryExecutor implements ExecutorService {
+
+    /**
+     * Executor service origin.
+     */
+    private final ExecutorService origin;
+
+    /**
+     * Try block.
+     */
+    private final TryBlock block;
+
+    /**
+     * Failures of executed tasks passed to fallback handler.
+     */
+    private final Predicate<Exception> unhandled;
+
+    /**
+     * Fallback handler of failures of executed tasks.
+     */
+    private final Consumer<Exception> fallback;
+
+    /**
+     * Ctor.
+     * @param exec Executor service
+     * @param tri Try, failures it does not support are passed to the
+     *  uncaught exception handler of the pool thread
+     */
+    public TryExecutor(final ExecutorService exec, final Try tri) {
+        this(
+            exec, tri,
+            exp -> {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler()
+                    .uncaughtException(thread, exp);
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param exec Executor service
+     * @param tri Try
+     * @param fbk Fallback handler of failures of executed tasks that try
+     *  does not support, called after try
+     */
+    public TryExecutor(final ExecutorService exec, final Try tri,
+        final Consumer<Exception> fbk) {
+        this(exec, tri, exp -> !tri.supports(exp), fbk);
+    }
+
+    /**
+     * Ctor.
+     * @param exec Executor service
+     * @param blk Try block
+     */
+    public TryExecutor(final ExecutorService exec, final TryBlock blk) {
+        this(exec, blk, exp -> false, exp -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param exec Executor service
+     * @param blk Try block
+     * @param fbk Fallback handler of every failure of executed tasks,
+     *  called after try block
+     */
+    public TryExecutor(final ExecutorService exec, final TryBlock blk,
+        final Consumer<Exception> fbk) {
+        this(exec, blk, exp -> true, fbk);
+    }
+
+    /**
+     * Ctor.
+     * @param exec Executor service
+     * @param blk Try block
+     * @param unhdl Failures of executed tasks passed to fallback handler
+     * @param fbk Fallback handler of failures of executed tasks
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private TryExecutor(final ExecutorService exec, final TryBlock blk,
+        final Predicate<Exception> unhdl, final Consumer<Exception> fbk) {
+        this.origin = exec;
+        this.block = blk;
+        this.unhandled = unhdl;
+        this.fallback = fbk;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        this.origin.execute(
+            new TryExecutor.Attempted(
+                this.block, command, this.unhandled, this.fallback
+            )
+        );
+    }
+
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) {
+        return this.origin.submit(new TryExecutor.Checked<>(this.block, task));
+    }
+
+    @Override
+    public <T> Future<T> submit(final Runnable task, final T result) {
+        return this.origin.submit(
+            new TryExecutor.Propagating(this.block, task), result
+        );
+    }
+
+    @Override
+    public Future<?> submit(final Runnable task) {
+        return this.origin.submit(
+            new TryExecutor.Propagating(this.block, task)
+        );
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(
+        final Collection<? extends Callable<T>> tasks)
+        throws InterruptedException {
+        return this.origin.invokeAll(this.checked(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(
+        final Collection<? extends Callable<T>> tasks, final long timeout,
+        final TimeUnit unit) throws InterruptedException {
+        return this.origin.invokeAll(this.checked(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+        throws InterruptedException, ExecutionException {
+        return this.origin.invokeAny(this.checked(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(final Collection<? extends Callable<T>> tasks,
+        final long timeout, final TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return this.origin.invokeAny(this.checked(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        this.origin.shutdown();
+    }
+
+    /**
+     * Stop executor; tasks given to {@link #execute(Runnable)} that never
+     * started are returned as they were given, submitted ones as futures
+     * created by the origin executor.
+     * @return List Tasks that never started
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = this.origin.shutdownNow();
+        final List<Runnable> tasks = new ArrayList<>(pending.size());
+        for (final Runnable task : pending) {
+            if (task instanceof TryExecutor.Attempted) {
+                tasks.add(((TryExecutor.Attempted) task).command);
+            } else if (task instanceof TryExecutor.Propagating) {
+                tasks.add(((TryExecutor.Propagating) task).command);
+            } else {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.origin.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.origin.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        return this.origin.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Wrap callables.
+     * @param tasks Callables
+     * @param <T> Value
+     * @return List Wrapped callables
+     */
+    private <T> List<Callable<T>> checked(
+        final Collection<? extends Callable<T>> tasks) {
+        final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            wrapped.add(new TryExecutor.Checked<>(this.block, task));
+        }
+        return wrapped;
+    }
+
+    /**
+     * Runnable executed through {@link TryBlock#attempt(ThrowableScalar)}.
+     *
+     * <p>This class is thread safe if try block is thread safe.
+     */
+    private static final class Attempted implements Runnable,
+        ThrowableScalar<Object, RuntimeException> {
+
+        /**
+         * Try block.
+         */
+        private final TryBlock block;
+
+        /**
+         * Runnable.
+         */
+        private final Runnable command;
+
+        /**
+         * Failures passed to fallback handler.
+         */
+        private final Predicate<Exception> unhandled;
+
+        /**
+         * Fallback handler of failures.
+         */
+        private final Consumer<Exception> fallback;
+
+        /**
+         * Ctor.
+         * @param blk Try block
+         * @param cmd Runnable
+         * @param unhdl Failures passed to fallback handler
+         * @param fbk Fallback handler of failures
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Attempted(final TryBlock blk, final Runnable cmd,
+            final Predicate<Exception> unhdl, final Consumer<Exception> fbk) {
+            this.block = blk;
+            this.command = cmd;
+            this.unhandled = unhdl;
+            this.fallback = fbk;
+        }
+
+        @Override
+        public void run() {
+            this.block.attempt(this).failure().filter(this.unhandled)
+                .ifPresent(this.fallback);
+        }
+
+        @Override
+        public Object value() {
+            this.command.run();
+            return null;
+        }
+    }
+
+    /**
+     * Runnable executed through try block, failures go through.
+     *
+     * <p>This class is thread safe if try block is thread safe.
+     */
+    private static final class Propagating implements Runnable,
+        ThrowableVoid<RuntimeException> {
+
+        /**
+         * Try block.
+         */
+        private final TryBlock block;
+
+        /**
+         * Runnable.
+         */
+        private final Runnable command;
+
+        /**
+         * Ctor.
+         * @param blk Try block
+         * @param cmd Runnable
+         */
+        Propagating(final TryBlock blk, final Runnable cmd) {
+            this.block = blk;
+            this.command = cmd;
+        }
+
+        @Override
+        public void run() {
+            this.block.exec(this);
+        }
+
+        @Override
+        public void exec() {
+            this.command.run();
+        }
+    }
+
+    /**
+     * Callable executed through try block, failures go through.
+     *
+     * <p>This class is thread safe if try block is thread safe.
+     * @param <T> Value
+     */
+    private static final class Checked<T> implements Callable<T>,
+        ThrowableScalar<T, Exception> {
+
+        /**
+         * Try block.
+         */
+        private final TryBlock block;
+
+        /**
+         * Callable.
+         */
+        private final Callable<T> task;
+
+        /**
+         * Ctor.
+         * @param blk Try block
+         * @param clb Callable
+         */
+        Checked(final TryBlock blk, final Callable<T> clb) {
+            this.block = blk;
+            this.task = clb;
+        }
+
+        @Override
+        public T call() throws Exception {
+            return this.block.exec(this);
+        }
+
+        @Override
+        public T value() throws Exception {
+            return this.task.call();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+/**
+ * Listener of {@link Try} lifecycle.
+ *
+ * <p>All hooks do nothing by default, so implementations override only
+ * the ones they need. Hooks are invoked on the thread that executes the
+ * try block and must not throw.
+ *
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public interface TryListener {
+
+    /**
+     * Execution is about to start.
+     */
+    default void onStart() {
+        // do nothing by default
+    }
+
+    /**
+     * Execution completed without exception.
+     */
+    default void onSuccess() {
+        // do nothing by default
+    }
+
+    /**
+     * Execution failed and exception went through catch blocks.
+     * @param exception Exception
+     * @param handled True if one of catch blocks supports the exception
+     */
+    default void onFailure(final Exception exception, final boolean handled) {
+        // do nothing by default
+    }
+
+    /**
+     * Execution failed with an error, which bypasses catch blocks.
+     * @param error Error
+     */
+    default void onError(final Error error) {
+        // do nothing by default
+    }
+
+    /**
+     * Finally block was executed.
+     */
+    default void onFinally() {
+        // do nothing by default
+    }
+
+    /**
+     * Exception was mapped to another exception by throws function.
+     * @param exception Original exception
+     * @param mapped Mapped exception
+     */
+    default void onMapped(final Exception exception, final Exception mapped) {
+        // do nothing by default
+    }
+
+    /**
+     * Listener that ignores all hooks.
+     *
+     * <p>This is the listener of {@link Try} unless another one is
+     * attached. It inherits the empty default hooks, so call sites that
+     * only ever see this class are inlined by JIT to nothing, and
+     * {@link Try} skips the work needed to report a failure when it is
+     * attached.
+     *
+     * <p>This class is thread safe.
+     */
+    final class Silent implements TryListener {
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of executions, outcomes and handler invocations.
+ *
+ * <p>Counters are recorded by {@link MeteredTry}, {@link MeteredCatch}
+ * and {@link MeteredFinally} that share an instance of this class.
+ * All counters are {@link LongAdder}s, so recording does not contend
+ * across cores.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> final TryMetrics metrics = new TryMetrics();
+ *      new MeteredTry(
+ *         new Try(
+ *             new MeteredCatch(
+ *                 "io", new Catch(IOException.class, e -> { }), metrics
+ *             )
+ *         ),
+ *         metrics
+ *      ).exec(() -> entities.get(id));
+ *      metrics.snapshot().failures(IOException.class);
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryMetrics {
+
+    /**
+     * Number of executions.
+     */
+    private final LongAdder executions;
+
+    /**
+     * Number of successful executions.
+     */
+    private final LongAdder successes;
+
+    /**
+     * Number of failed finally blocks.
+     */
+    private final LongAdder finallies;
+
+    /**
+     * Number of failures per exception class.
+     */
+    private final ConcurrentMap<Class<?>, LongAdder> failures;
+
+    /**
+     * Number of handler invocations per catch block name.
+     */
+    private final ConcurrentMap<String, LongAdder> handlers;
+
+    /**
+     * Ctor.
+     */
+    public TryMetrics() {
+        this.executions = new LongAdder();
+        this.successes = new LongAdder();
+        this.finallies = new LongAdder();
+        this.failures = new ConcurrentHashMap<>(0);
+        this.handlers = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Read all counters.
+     *
+     * <p>Outcome counters are read before the number of executions, so
+     * the number of executions in a snapshot is never lower than the sum
+     * of successes and failures.
+     * @return TryMetrics.Snapshot Snapshot
+     */
+    public TryMetrics.Snapshot snapshot() {
+        final long success = this.successes.sum();
+        final Map<Class<?>, Long> failed = TryMetrics.sums(this.failures);
+        final Map<String, Long> handled = TryMetrics.sums(this.handlers);
+        final long fnly = this.finallies.sum();
+        return new TryMetrics.Snapshot(
+            this.executions.sum(), success, failed, handled, fnly
+        );
+    }
+
+    /**
+     * Record start of an execution.
+     */
+    void started() {
+        this.executions.increment();
+    }
+
+    /**
+     * Record successful execution.
+     */
+    void succeeded() {
+        this.successes.increment();
+    }
+
+    /**
+     * Record failed execution.
+     * @param exception Exception
+     */
+    void failed(final Exception exception) {
+        TryMetrics.counter(this.failures, exception.getClass()).increment();
+    }
+
+    /**
+     * Record failure of a finally block.
+     */
+    void finallyFailed() {
+        this.finallies.increment();
+    }
+
+    /**
+     * Counter of handler invocations of a catch block.
+     * @param name Catch block name
+     * @return LongAdder Counter
+     */
+    LongAdder handler(final String name) {
+        return TryMetrics.counter(this.handlers, name);
+    }
+
+    /**
+     * Counter for a key, created on first use.
+     * @param counters Counters
+     * @param key Key
+     * @param <K> Key type
+     * @return LongAdder Counter
+     */
+    private static <K> LongAdder counter(
+        final ConcurrentMap<K, LongAdder> counters, final K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, any -> new LongAdder());
+        }
+        return counter;
+    }
+
+    /**
+     * Sums of counters.
+     * @param counters Counters
+     * @param <K> Key type
+     * @return Map of sums
+     */
+    private static <K> Map<K, Long> sums(
+        final Map<K, LongAdder> counters) {
+        final Map<K, Long> result = new HashMap<>(counters.size());
+        for (final Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+
+    /**
+     * Immutable snapshot of counters.
+     *
+     * <p>This class is thread safe.
+     */
+    public static final class Snapshot {
+
+        /**
+         * Number of executions.
+         */
+        private final long executions;
+
+        /**
+         * Number of successful executions.
+         */
+        private final long successes;
+
+        /**
+         * Number of failures per exception class.
+         */
+        private final Map<Class<?>, Long> failed;
+
+        /**
+         * Number of handler invocations per catch block name.
+         */
+        private final Map<String, Long> handled;
+
+        /**
+         * Number of failed finally blocks.
+         */
+        private final long finallies;
+
+        /**
+         * Ctor.
+         * @param execs Number of executions
+         * @param success Number of successful executions
+         * @param fails Number of failures per exception class
+         * @param handlers Number of handler invocations per catch block
+         * @param fnly Number of failed finally blocks
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Snapshot(final long execs, final long success,
+            final Map<Class<?>, Long> fails, final Map<String, Long> handlers,
+            final long fnly) {
+            this.executions = execs;
+            this.successes = success;
+            this.failed = fails;
+            this.handled = handlers;
+            this.finallies = fnly;
+        }
+
+        /**
+         * Number of executions.
+         * @return Long Number of executions
+         */
+        public long executions() {
+            return this.executions;
+        }
+
+        /**
+         * Number of successful executions.
+         * @return Long Number of successful executions
+         */
+        public long successes() {
+            return this.successes;
+        }
+
+        /**
+         * Number of failed executions.
+         * @return Long Number of failed executions
+         */
+        public long failures() {
+            long total = 0L;
+            for (final long count : this.failed.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Number of failures with exactly given exception class.
+         * @param clazz Exception class
+         * @return Long Number of failures
+         */
+        public long failures(final Class<?> clazz) {
+            return this.failed.getOrDefault(clazz, 0L);
+        }
+
+        /**
+         * Exception classes with recorded failures.
+         * @return Set of exception classes
+         */
+        public Set<Class<?>> classes() {
+            return Collections.unmodifiableSet(this.failed.keySet());
+        }
+
+        /**
+         * Names of catch blocks with recorded handler counters.
+         * @return Set of catch block names
+         */
+        public Set<String> blocks() {
+            return Collections.unmodifiableSet(this.handled.keySet());
+        }
+
+        /**
+         * Number of handler invocations of a catch block.
+         * @param name Catch block name
+         * @return Long Number of handler invocations
+         */
+        public long handled(final String name) {
+            return this.handled.getOrDefault(name, 0L);
+        }
+
+        /**
+         * Number of failed finally blocks.
+         * @return Long Number of failed finally blocks
+         */
+        public long finallyFailures() {
+            return this.finallies;
+        }
+    }
+}
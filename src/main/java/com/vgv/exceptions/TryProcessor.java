@@ -0,0 +1,413 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Reactive streams processor that maps every element under exception
+ * control.
+ *
+ * <p>Mapping is one of stream adapters: {@link SkippingFunc} drops elements
+ * that fail with handled exception, {@link RecoveringFunc} replaces them,
+ * {@link CollectingFunc} routes them to a dead-letter channel. Only
+ * exceptions that are not handled terminate the stream: upstream is
+ * cancelled and subscriber receives the error.
+ *
+ * <p>Demand is respected in both directions: upstream is asked for no
+ * more elements than fit into the bounded buffer, and elements are
+ * emitted only when subscriber requested them. Dropped elements free
+ * their place in the buffer, so demand is not lost. The processor
+ * supports a single subscriber. On Java 9+ it can be bridged to
+ * {@code java.util.concurrent.Flow} with
+ * {@code org.reactivestreams.FlowAdapters}.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> publisher.subscribe(
+ *     new TryProcessor&lt;&gt;(
+ *         new CollectingFunc&lt;&gt;(
+ *             new MultiCatch(new Catch(ParseException.class, e -> { })),
+ *             parser::parse,
+ *             (msg, exp) -> deadLetters.send(msg)
+ *         ),
+ *         256
+ *     )
+ * );
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <X> Input
+ * @param <T> Output
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class TryProcessor<X, T> implements Processor<X, T> {
+
+    /**
+     * Default buffer capacity.
+     */
+    private static final int CAPACITY = 256;
+
+    /**
+     * Mapping of elements.
+     */
+    private final Function<? super X, Stream<T>> mapping;
+
+    /**
+     * Buffer capacity.
+     */
+    private final int capacity;
+
+    /**
+     * Buffered output elements.
+     */
+    private final Queue<T> queue;
+
+    /**
+     * Number of buffered output elements.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * Number of elements requested from upstream and not yet received.
+     */
+    private final AtomicInteger outstanding;
+
+    /**
+     * Demand of subscriber.
+     */
+    private final AtomicLong demand;
+
+    /**
+     * Drain loop guard.
+     */
+    private final AtomicInteger wip;
+
+    /**
+     * Upstream subscription.
+     */
+    private final AtomicReference<Subscription> upstream;
+
+    /**
+     * Whether subscriber is already set.
+     */
+    private final AtomicBoolean subscribed;
+
+    /**
+     * Subscriber.
+     */
+    private final AtomicReference<Subscriber<? super T>> downstream;
+
+    /**
+     * Terminal error.
+     */
+    private final AtomicReference<Throwable> error;
+
+    /**
+     * Whether upstream completed.
+     */
+    private final AtomicBoolean done;
+
+    /**
+     * Whether processor is cancelled or terminated.
+     */
+    private final AtomicBoolean stopped;
+
+    /**
+     * Ctor.
+     * @param blks Catch blocks
+     * @param fun Function, elements failing with handled exceptions
+     *  are dropped
+     */
+    public TryProcessor(final CatchBlocks blks,
+        final ThrowableFunc<X, T, ?> fun) {
+        this(new SkippingFunc<>(blks, fun), TryProcessor.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param map Mapping of elements
+     * @param size Buffer capacity
+     */
+    public TryProcessor(final Function<? super X, Stream<T>> map,
+        final int size) {
+        this.mapping = map;
+        this.capacity = size;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.outstanding = new AtomicInteger();
+        this.demand = new AtomicLong();
+        this.wip = new AtomicInteger();
+        this.upstream = new AtomicReference<>();
+        this.subscribed = new AtomicBoolean();
+        this.downstream = new AtomicReference<>();
+        this.error = new AtomicReference<>();
+        this.done = new AtomicBoolean();
+        this.stopped = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (this.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new TryProcessor.Demand(this));
+            this.downstream.set(subscriber);
+            this.drain();
+        } else {
+            subscriber.onSubscribe(new TryProcessor.Refused());
+            subscriber.onError(
+                new IllegalStateException("Only one subscriber is allowed")
+            );
+        }
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        if (this.upstream.compareAndSet(null, subscription)) {
+            this.drain();
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void onNext(final X element) {
+        this.outstanding.decrementAndGet();
+        if (!this.done.get()) {
+            try {
+                this.mapping.apply(element).forEach(
+                    value -> {
+                        this.queue.offer(value);
+                        this.queued.incrementAndGet();
+                    }
+                );
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final RuntimeException exception) {
+                this.upstream.get().cancel();
+                this.onError(exception);
+            }
+            this.drain();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        if (this.error.compareAndSet(null, throwable)) {
+            this.done.set(true);
+            this.drain();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        this.done.set(true);
+        this.drain();
+    }
+
+    /**
+     * Add subscriber demand.
+     * @param count Number of requested elements
+     */
+    private void request(final long count) {
+        this.demand.getAndUpdate(
+            current -> {
+                final long sum = current + count;
+                final long result;
+                if (sum < 0L) {
+                    result = Long.MAX_VALUE;
+                } else {
+                    result = sum;
+                }
+                return result;
+            }
+        );
+        this.drain();
+    }
+
+    /**
+     * Reject non-positive request: upstream is cancelled and subscriber
+     * receives the error from the drain loop, like any other signal.
+     * @param count Number of requested elements
+     */
+    private void reject(final long count) {
+        final Subscription subscription = this.upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        this.onError(
+            new IllegalArgumentException(
+                String.format("Non-positive request of %d", count)
+            )
+        );
+    }
+
+    /**
+     * Cancel processing.
+     */
+    private void cancel() {
+        if (this.stopped.compareAndSet(false, true)) {
+            final Subscription subscription = this.upstream.get();
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            this.queue.clear();
+        }
+    }
+
+    /**
+     * Emit buffered elements, signal termination and request more
+     * elements from upstream. Only one thread drains at a time.
+     */
+    private void drain() {
+        if (this.wip.getAndIncrement() == 0) {
+            int missed = 1;
+            while (missed != 0) {
+                final Subscriber<? super T> subscriber = this.downstream.get();
+                if (subscriber != null && !this.stopped.get()) {
+                    this.emit(subscriber);
+                    this.terminate(subscriber);
+                    this.replenish();
+                }
+                missed = this.wip.addAndGet(-missed);
+            }
+        }
+    }
+
+    /**
+     * Emit buffered elements that subscriber requested.
+     * @param subscriber Subscriber
+     */
+    private void emit(final Subscriber<? super T> subscriber) {
+        final long requested = this.demand.get();
+        long emitted = 0L;
+        while (emitted != requested && !this.stopped.get()) {
+            final T value = this.queue.poll();
+            if (value == null) {
+                break;
+            }
+            this.queued.decrementAndGet();
+            subscriber.onNext(value);
+            emitted += 1L;
+        }
+        if (emitted > 0L && requested != Long.MAX_VALUE) {
+            this.demand.addAndGet(-emitted);
+        }
+    }
+
+    /**
+     * Signal termination once buffer is drained.
+     * @param subscriber Subscriber
+     */
+    private void terminate(final Subscriber<? super T> subscriber) {
+        final Throwable failure = this.error.get();
+        if (failure != null && this.stopped.compareAndSet(false, true)) {
+            this.queue.clear();
+            subscriber.onError(failure);
+        } else if (this.done.get() && this.queue.isEmpty()
+            && this.stopped.compareAndSet(false, true)) {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Request as many elements from upstream as fit into the buffer.
+     */
+    private void replenish() {
+        final Subscription subscription = this.upstream.get();
+        if (subscription != null && !this.done.get()
+            && !this.stopped.get()) {
+            final int room = this.capacity - this.queued.get()
+                - this.outstanding.get();
+            if (room > 0) {
+                this.outstanding.addAndGet(room);
+                subscription.request(room);
+            }
+        }
+    }
+
+    /**
+     * Subscription of the subscriber.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Demand implements Subscription {
+
+        /**
+         * Processor.
+         */
+        private final TryProcessor<?, ?> processor;
+
+        /**
+         * Ctor.
+         * @param prc Processor
+         */
+        Demand(final TryProcessor<?, ?> prc) {
+            this.processor = prc;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0L) {
+                this.processor.reject(count);
+            } else {
+                this.processor.request(count);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.processor.cancel();
+        }
+    }
+
+    /**
+     * Subscription of a refused subscriber.
+     *
+     * <p>This class is thread safe.
+     */
+    private static final class Refused implements Subscription {
+
+        @Override
+        public void request(final long count) {
+            // nothing will be emitted to refused subscriber
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to cancel for refused subscriber
+        }
+    }
+}
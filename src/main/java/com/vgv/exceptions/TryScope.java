@@ -0,0 +1,356 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Scope that executes related scalars concurrently under one exception
+ * control and joins them.
+ *
+ * <p>Every failure is handled by catch blocks, which are never called
+ * concurrently. A failure supported by fatal catch blocks cancels all
+ * other scalars of the scope; failures that happen after cancellation are
+ * not handled, but are still attached to the thrown failure.
+ * {@link #join()} waits until every scalar has actually finished, even a
+ * cancelled one that was already running, executes finally block once for
+ * the whole group and throws the first failure with others attached as
+ * suppressed exceptions. Scalars that the executor has not started by the
+ * time they are joined, including ones it dropped, are executed by the
+ * joining thread, so join does not wait for tasks that never run.
+ *
+ * <p>A scope is meant for a single group of scalars: fork them, then join.
+ * This class is thread safe.
+ *
+ * <pre> final TryScope&lt;Widget, IOException&gt; scope = new TryScope&lt;&gt;(
+ *     executor,
+ *     new MultiCatch(new Catch(IOException.class, e -> LOGGER.warn("", e))),
+ *     new MultiCatch(new Catch(AuthException.class, e -> { })),
+ *     new Finally(() -> LOGGER.info("page rendered"))
+ * );
+ * scope.fork(() -> header.load());
+ * scope.fork(() -> offers.load());
+ * final List&lt;Widget&gt; widgets = scope.join();
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @param <T> Scalar type
+ * @param <E> Exception
+ * @since 1.0
+ */
+public final class TryScope<T, E extends Exception> {
+
+    /**
+     * Executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Catch blocks.
+     */
+    private final CatchBlocks blocks;
+
+    /**
+     * Catch blocks of failures that cancel the scope.
+     */
+    private final CatchBlocks fatal;
+
+    /**
+     * Finally block.
+     */
+    private final FinallyBlock fnly;
+
+    /**
+     * Forked tasks.
+     */
+    private final List<TryScope.Fork<T>> tasks;
+
+    /**
+     * Whether the scope is cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * First failure.
+     */
+    private final AtomicReference<Exception> first;
+
+    /**
+     * All failures.
+     */
+    private final Queue<Exception> failures;
+
+    /**
+     * Ctor.
+     * @param exec Executor
+     * @param blks Catch blocks
+     * @param ftl Catch blocks of failures that cancel the scope
+     */
+    public TryScope(final Executor exec, final CatchBlocks blks,
+        final CatchBlocks ftl) {
+        this(exec, blks, ftl, () -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param exec Executor
+     * @param blks Catch blocks
+     * @param ftl Catch blocks of failures that cancel the scope
+     * @param fblk Finally block of the whole group
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public TryScope(final Executor exec, final CatchBlocks blks,
+        final CatchBlocks ftl, final FinallyBlock fblk) {
+        this.executor = exec;
+        this.blocks = blks;
+        this.fatal = ftl;
+        this.fnly = fblk;
+        this.tasks = Collections.synchronizedList(new ArrayList<>(0));
+        this.cancelled = new AtomicBoolean();
+        this.first = new AtomicReference<>();
+        this.failures = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Start concurrent execution of scalar.
+     * @param scalar Scalar
+     * @return Future Future of scalar value
+     */
+    public Future<T> fork(final ThrowableScalar<T, E> scalar) {
+        final TryScope.Fork<T> task;
+        synchronized (this.tasks) {
+            final int idx = this.tasks.size();
+            task = new TryScope.Fork<>(() -> this.call(idx, scalar));
+            this.tasks.add(task);
+        }
+        if (this.cancelled.get()) {
+            task.cancel(false);
+            task.run();
+        } else {
+            try {
+                this.executor.execute(task);
+            } catch (final RejectedExecutionException ex) {
+                task.cancel(false);
+                task.run();
+                throw ex;
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Wait for all scalars and execute finally block.
+     * @return List Values of scalars in the order they were forked
+     * @throws E First failure
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> join() throws E {
+        try {
+            final List<TryScope.Fork<T>> all = this.snapshot();
+            this.await(all);
+            final List<T> values = new ArrayList<>(all.size());
+            for (final Future<T> task : all) {
+                values.add(this.await(task));
+            }
+            final Exception failure = this.first.get();
+            if (failure != null) {
+                for (final Exception other : this.failures) {
+                    if (other != failure) {
+                        failure.addSuppressed(other);
+                    }
+                }
+                throw (E) failure;
+            }
+            return values;
+        } finally {
+            new UncheckedFinally(this.fnly).exec();
+        }
+    }
+
+    /**
+     * Execute scalar of a task.
+     * @param idx Task position
+     * @param scalar Scalar
+     * @return T Value
+     * @throws E Exception
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private T call(final int idx, final ThrowableScalar<T, E> scalar)
+        throws E {
+        try {
+            return scalar.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exception) {
+            this.first.compareAndSet(null, exception);
+            this.failures.add(exception);
+            if (!this.cancelled.get()) {
+                synchronized (this.blocks) {
+                    this.blocks.handle(exception);
+                }
+                if (this.fatal.supports(exception)) {
+                    this.cancel(idx);
+                }
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Wait until forked tasks finish, executing the ones that have not
+     * started yet. If the waiting thread is interrupted, the scope is
+     * cancelled, tasks are still waited for and
+     * {@link IllegalStateException} is thrown.
+     * @param all Forked tasks
+     */
+    private void await(final List<TryScope.Fork<T>> all) {
+        boolean interrupted = false;
+        for (final TryScope.Fork<T> task : all) {
+            task.run();
+            boolean finished = false;
+            while (!finished) {
+                try {
+                    task.finish();
+                    finished = true;
+                } catch (final InterruptedException exception) {
+                    if (!interrupted) {
+                        interrupted = true;
+                        this.cancelled.set(true);
+                        for (final Future<T> other : all) {
+                            other.cancel(true);
+                        }
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scope join was interrupted");
+        }
+    }
+
+    /**
+     * Value of finished task.
+     * @param task Task
+     * @return T Value, null if task failed or was cancelled, in which case
+     *  the failure is thrown by {@link #join()}
+     */
+    private T await(final Future<T> task) {
+        try {
+            return task.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } catch (final ExecutionException | CancellationException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Cancel all tasks except the failed one.
+     * @param failed Position of failed task
+     */
+    private void cancel(final int failed) {
+        this.cancelled.set(true);
+        final List<TryScope.Fork<T>> all = this.snapshot();
+        for (int idx = 0; idx < all.size(); ++idx) {
+            if (idx != failed) {
+                all.get(idx).cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Copy of forked tasks.
+     * @return List Tasks
+     */
+    private List<TryScope.Fork<T>> snapshot() {
+        synchronized (this.tasks) {
+            return new ArrayList<>(this.tasks);
+        }
+    }
+
+    /**
+     * Forked task that is executed at most once, by the executor or by
+     * the joining thread, and counts down its latch once it has actually
+     * finished, even if it was cancelled while running.
+     *
+     * <p>This class is thread safe.
+     * @param <T> Scalar type
+     */
+    private static final class Fork<T> extends FutureTask<T> {
+
+        /**
+         * Whether the task was started.
+         */
+        private final AtomicBoolean started;
+
+        /**
+         * Latch released when the task has finished.
+         */
+        private final CountDownLatch done;
+
+        /**
+         * Ctor.
+         * @param callable Callable
+         */
+        Fork(final Callable<T> callable) {
+            super(callable);
+            this.started = new AtomicBoolean();
+            this.done = new CountDownLatch(1);
+        }
+
+        @Override
+        public void run() {
+            if (this.started.compareAndSet(false, true)) {
+                try {
+                    super.run();
+                } finally {
+                    this.done.countDown();
+                }
+            }
+        }
+
+        /**
+         * Wait until the task has finished.
+         * @throws InterruptedException If waiting thread is interrupted
+         */
+        public void finish() throws InterruptedException {
+            this.done.await();
+        }
+    }
+}
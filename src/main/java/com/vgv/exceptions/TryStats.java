@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Try counters and latencies as platform MXBean.
+ *
+ * <p>Attributes are read from snapshots, so reading them does not block
+ * recording.
+ *
+ * <p>This class is thread safe.
+ *
+ * <pre> new TryStats(metrics, latencies).register("orders");
+ * </pre>
+ * @author Vedran Grgo Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryStats implements TryStatsMXBean {
+
+    /**
+     * Percentile exposed by attributes.
+     */
+    private static final double PERCENTILE = 99.0;
+
+    /**
+     * Counters.
+     */
+    private final TryMetrics metrics;
+
+    /**
+     * Latencies.
+     */
+    private final Latencies latencies;
+
+    /**
+     * Ctor.
+     * @param mtr Counters
+     * @param ltc Latencies
+     */
+    public TryStats(final TryMetrics mtr, final Latencies ltc) {
+        this.metrics = mtr;
+        this.latencies = ltc;
+    }
+
+    /**
+     * Register in platform MBean server as
+     * {@code com.vgv.exceptions:type=Try,name=<name>}.
+     * @param name Try name
+     * @return ObjectName Registered name
+     * @throws JMException If registration fails
+     */
+    public ObjectName register(final String name) throws JMException {
+        final ObjectName object = new ObjectName(
+            String.format(
+                "com.vgv.exceptions:type=Try,name=%s", ObjectName.quote(name)
+            )
+        );
+        ManagementFactory.getPlatformMBeanServer()
+            .registerMBean(this, object);
+        return object;
+    }
+
+    @Override
+    public long getExecutions() {
+        return this.metrics.snapshot().executions();
+    }
+
+    @Override
+    public long getSuccesses() {
+        return this.metrics.snapshot().successes();
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        final TryMetrics.Snapshot snapshot = this.metrics.snapshot();
+        final Map<String, Long> result = new HashMap<>(0);
+        for (final Class<?> clazz : snapshot.classes()) {
+            result.put(clazz.getName(), snapshot.failures(clazz));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getHandled() {
+        final TryMetrics.Snapshot snapshot = this.metrics.snapshot();
+        final Map<String, Long> result = new HashMap<>(0);
+        for (final String block : snapshot.blocks()) {
+            result.put(block, snapshot.handled(block));
+        }
+        return result;
+    }
+
+    @Override
+    public long getFinallyFailures() {
+        return this.metrics.snapshot().finallyFailures();
+    }
+
+    @Override
+    public long getSuccessP99() {
+        return this.latencies.success().snapshot()
+            .percentile(TryStats.PERCENTILE);
+    }
+
+    @Override
+    public Map<String, Long> getFailureP99() {
+        final Map<String, Long> result = new HashMap<>(0);
+        for (final Map.Entry<Class<?>, Histogram> entry
+            : this.latencies.failures().entrySet()) {
+            result.put(
+                entry.getKey().getName(),
+                entry.getValue().snapshot().percentile(TryStats.PERCENTILE)
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.Map;
+
+/**
+ * Management interface of Try counters and latencies.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public interface TryStatsMXBean {
+
+    /**
+     * Number of executions.
+     * @return Long Number of executions
+     */
+    long getExecutions();
+
+    /**
+     * Number of successful executions.
+     * @return Long Number of successful executions
+     */
+    long getSuccesses();
+
+    /**
+     * Number of failures per exception class name.
+     * @return Map of failures
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * Number of handler invocations per catch block name.
+     * @return Map of handler invocations
+     */
+    Map<String, Long> getHandled();
+
+    /**
+     * Number of failed finally blocks.
+     * @return Long Number of failed finally blocks
+     */
+    long getFinallyFailures();
+
+    /**
+     * 99th percentile of successful executions in nanoseconds.
+     * @return Long Nanoseconds
+     */
+    long getSuccessP99();
+
+    /**
+     * 99th percentile of failed executions per exception class name in
+     * nanoseconds.
+     * @return Map of nanoseconds
+     */
+    Map<String, Long> getFailureP99();
+}
@@ -72,4 +72,58 @@ public final class UncheckedTry implements TryBlock {
             throw new UncheckedIOException(new IOException(exp));
         }
     }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> int execInt(
+        final ThrowableIntScalar<E> scalar) {
+        try {
+            return this.origin.execInt(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            throw new UncheckedIOException(new IOException(exp));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> long execLong(
+        final ThrowableLongScalar<E> scalar) {
+        try {
+            return this.origin.execLong(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            throw new UncheckedIOException(new IOException(exp));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> double execDouble(
+        final ThrowableDoubleScalar<E> scalar) {
+        try {
+            return this.origin.execDouble(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            throw new UncheckedIOException(new IOException(exp));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <E extends Exception> boolean execBoolean(
+        final ThrowableBooleanScalar<E> scalar) {
+        try {
+            return this.origin.execBoolean(scalar);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            throw new UncheckedIOException(new IOException(exp));
+        }
+    }
+
+    @Override
+    public <T, E extends Exception> Outcome<T> attempt(
+        final ThrowableScalar<T, E> scalar) {
+        return this.origin.attempt(scalar);
+    }
 }
@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link AggregatingCatch}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AggregatingCatchTest {
+
+    /**
+     * Exceptions from the same place share a group regardless of message.
+     */
+    @Test
+    public void groupsByFingerprint() {
+        final AggregatingCatch blk = new AggregatingCatch(
+            new Catch(Exception.class, exp -> { }), 8, 10
+        );
+        final int total = 3;
+        for (int idx = 0; idx < total; ++idx) {
+            blk.handle(new IOException(String.valueOf(idx)));
+        }
+        blk.handle(new IllegalStateException("other"));
+        final List<ErrorGroup> top = blk.top(10);
+        MatcherAssert.assertThat(top.size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            top.get(0).count(),
+            Matchers.equalTo((long) total)
+        );
+    }
+
+    /**
+     * Cause chain is part of the fingerprint.
+     */
+    @Test
+    public void distinguishesCauses() {
+        final AggregatingCatch blk = new AggregatingCatch(
+            new Catch(Exception.class, exp -> { }), 8, 10
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            blk.handle(new IOException(new IllegalStateException()));
+            blk.handle(new IOException(new IllegalArgumentException()));
+        }
+        MatcherAssert.assertThat(blk.top(10).size(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Number of groups is bounded.
+     */
+    @Test
+    public void evictsColdGroups() {
+        final AggregatingCatch blk = new AggregatingCatch(
+            new Catch(Exception.class, exp -> { }), 8, 1
+        );
+        blk.handle(new IOException("io"));
+        blk.handle(new IllegalStateException("illegal"));
+        final List<ErrorGroup> top = blk.top(10);
+        MatcherAssert.assertThat(top.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            top.get(0).exception().getMessage(),
+            Matchers.equalTo("illegal")
+        );
+    }
+
+    /**
+     * Group seen since last eviction check survives eviction.
+     */
+    @Test
+    public void keepsRecentlySeenGroup() {
+        final AggregatingCatch blk = new AggregatingCatch(
+            new Catch(Exception.class, exp -> { }), 8, 2
+        );
+        blk.handle(new IOException("first"));
+        blk.handle(new IllegalStateException("hot"));
+        blk.handle(new IllegalArgumentException("third"));
+        blk.handle(new IllegalStateException("hot"));
+        blk.handle(new UnsupportedOperationException("fourth"));
+        MatcherAssert.assertThat(
+            blk.top(1).get(0).exception().getMessage(),
+            Matchers.equalTo("hot")
+        );
+        MatcherAssert.assertThat(blk.top(10).size(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Exceptions not supported by origin block are not grouped.
+     */
+    @Test
+    public void ignoresUnsupportedExceptions() {
+        final AggregatingCatch blk = new AggregatingCatch(
+            new Catch(IOException.class, exp -> { }), 8, 10
+        );
+        blk.handle(new IllegalStateException("other"));
+        MatcherAssert.assertThat(blk.top(10), Matchers.empty());
+    }
+}
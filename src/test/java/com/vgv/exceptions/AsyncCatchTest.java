@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link AsyncCatch}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AsyncCatchTest {
+
+    /**
+     * Exception is rethrown immediately and handled on consumer thread.
+     * @throws Exception Exception
+     */
+    @Test
+    public void handlesExceptionAsynchronously() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final AsyncCatch block = new AsyncCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            16
+        );
+        try {
+            new Try(block).exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+        } catch (final IOException exp) {
+            new FakeOperations().exec();
+        }
+        block.close();
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Exceptions that do not fit into the queue are dropped and counted.
+     * @throws Exception Exception
+     */
+    @Test
+    public void countsDroppedExceptions() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AsyncCatch block = new AsyncCatch(
+            new Catch(
+                IOException.class,
+                exp -> {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            ),
+            2
+        );
+        final int total = 10;
+        for (int idx = 0; idx < total; ++idx) {
+            block.handle(new IOException("io"));
+        }
+        latch.countDown();
+        block.close();
+        MatcherAssert.assertThat(
+            block.dropped(),
+            Matchers.greaterThanOrEqualTo((long) total - 3L)
+        );
+    }
+
+    /**
+     * Exception given after close is dropped and counted.
+     */
+    @Test
+    public void countsExceptionAfterClose() {
+        final AsyncCatch block = new AsyncCatch(
+            new Catch(IOException.class, exp -> { }), 16
+        );
+        block.close();
+        block.handle(new IOException("late"));
+        MatcherAssert.assertThat(block.dropped(), Matchers.equalTo(1L));
+    }
+
+    /**
+     * Waiting caller is woken up when consumer frees room.
+     * @throws Exception Exception
+     */
+    @Test
+    public void wakesUpWaitingCaller() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final AsyncCatch block = new AsyncCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            1,
+            true
+        );
+        final int total = 100;
+        for (int idx = 0; idx < total; ++idx) {
+            block.handle(new IOException("io"));
+        }
+        block.close();
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(total));
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link AsyncFinally}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class AsyncFinallyTest {
+
+    /**
+     * Failure of background block is reported.
+     * @throws Exception Exception
+     */
+    @Test
+    public void reportsFailure() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final FakeOperations operations = new FakeOperations();
+        new AsyncFinally(
+            () -> {
+                throw new IOException("audit");
+            },
+            executor,
+            new Catch(IOException.class, exp -> operations.exec())
+        ).exec();
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Failure not supported by report block goes to the uncaught
+     * exception handler.
+     * @throws Exception Exception
+     */
+    @Test
+    public void passesUnsupportedFailure() throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable);
+                thread.setUncaughtExceptionHandler(
+                    (thr, exp) -> operations.exec()
+                );
+                return thread;
+            }
+        );
+        new AsyncFinally(
+            () -> {
+                throw new IllegalStateException("audit");
+            },
+            executor,
+            new Catch(IOException.class, exp -> { })
+        ).exec();
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link BatchTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class BatchTryTest {
+
+    /**
+     * Collects values and failures with their positions.
+     */
+    @Test
+    public void collectsValuesAndFailures() {
+        final Batch<String> batch = new Try().execAll(
+            new ListOf<ThrowableScalar<String, IOException>>(
+                () -> "a",
+                () -> {
+                    throw new IOException("b");
+                },
+                () -> "c"
+            )
+        );
+        MatcherAssert.assertThat(
+            batch.values(),
+            Matchers.contains("a", "c")
+        );
+        MatcherAssert.assertThat(
+            batch.failures().size(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            batch.failures().index(0),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Handles only first failure of each exception class.
+     */
+    @Test
+    public void handlesFailureOncePerClass() {
+        final AtomicInteger handled = new AtomicInteger();
+        new BatchTry(
+            new MultiCatch(
+                new Catch(IOException.class, exp -> handled.incrementAndGet())
+            ),
+            true
+        ).exec(
+            new ListOf<ThrowableScalar<String, IOException>>(
+                () -> {
+                    throw new IOException("a");
+                },
+                () -> {
+                    throw new IOException("b");
+                }
+            )
+        );
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Fail-fast mode stops on first failure.
+     * @throws IOException IOException
+     */
+    @Test(expected = IOException.class)
+    public void failsFast() throws IOException {
+        new BatchTry().execOrFail(
+            new ListOf<ThrowableScalar<String, IOException>>(
+                () -> {
+                    throw new IOException("a");
+                },
+                () -> {
+                    throw new IllegalStateException("not executed");
+                }
+            )
+        );
+    }
+}
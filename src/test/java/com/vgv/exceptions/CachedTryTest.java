@@ -0,0 +1,173 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CachedTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class CachedTryTest {
+
+    /**
+     * Scalar is executed only once for the same key.
+     * @throws Exception Exception
+     */
+    @Test
+    public void cachesValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final KeyedTryBlock<String, Integer> cache = new CachedTry<>(
+            new Try(), Duration.ofMinutes(1L), 10
+        );
+        cache.exec("a", calls::incrementAndGet);
+        MatcherAssert.assertThat(
+            cache.exec("a", calls::incrementAndGet),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Least recently used key is evicted.
+     * @throws Exception Exception
+     */
+    @Test
+    public void evictsLeastRecentlyUsedKey() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final KeyedTryBlock<String, Integer> cache = new CachedTry<>(
+            new Try(), Duration.ofMinutes(1L), 1
+        );
+        cache.exec("a", calls::incrementAndGet);
+        cache.exec("b", calls::incrementAndGet);
+        final int expected = 3;
+        MatcherAssert.assertThat(
+            cache.exec("a", calls::incrementAndGet),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * Stale value is served when refresh fails and background refresh
+     * replaces it.
+     * @throws Exception Exception
+     */
+    @Test
+    public void servesStaleValueOnError() throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        final KeyedTryBlock<String, String> cache = new CachedTry<>(
+            new Try(), Duration.ZERO, 10,
+            new Catch(IOException.class, exp -> operations.exec()),
+            Duration.ofMinutes(1L), Runnable::run
+        );
+        cache.exec("a", () -> "first");
+        MatcherAssert.assertThat(
+            cache.exec(
+                "a",
+                () -> {
+                    throw new IOException("down");
+                }
+            ),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Exception that is not supported by stale catch block goes through.
+     * @throws Exception Exception
+     */
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsUnsupportedException() throws Exception {
+        final KeyedTryBlock<String, String> cache = new CachedTry<>(
+            new Try(), Duration.ZERO, 10,
+            new Catch(IOException.class, exp -> new FakeOperations().exec()),
+            Duration.ofMinutes(1L), Runnable::run
+        );
+        cache.exec("a", () -> "first");
+        cache.exec(
+            "a",
+            () -> {
+                throw new IllegalStateException("illegal");
+            }
+        );
+    }
+
+    /**
+     * Value is not served stale for longer than maximum staleness.
+     * @throws Exception Exception
+     */
+    @Test(expected = IOException.class)
+    public void boundsStaleness() throws Exception {
+        final KeyedTryBlock<String, String> cache = new CachedTry<>(
+            new Try(), Duration.ZERO, 10,
+            new Catch(IOException.class, exp -> new FakeOperations().exec()),
+            Duration.ZERO, Runnable::run
+        );
+        cache.exec("a", () -> "first");
+        cache.exec(
+            "a",
+            () -> {
+                throw new IOException("down");
+            }
+        );
+    }
+
+    /**
+     * Rejected background refresh is retried on the next call.
+     * @throws Exception Exception
+     */
+    @Test
+    public void retriesRejectedRefresh() throws Exception {
+        final AtomicInteger rejected = new AtomicInteger();
+        final KeyedTryBlock<String, String> cache = new CachedTry<>(
+            new Try(), Duration.ZERO, 10,
+            new Catch(IOException.class, exp -> new FakeOperations().exec()),
+            Duration.ofMinutes(1L),
+            task -> {
+                rejected.incrementAndGet();
+                throw new RejectedExecutionException("full");
+            }
+        );
+        cache.exec("a", () -> "first");
+        cache.exec(
+            "a",
+            () -> {
+                throw new IOException("down");
+            }
+        );
+        cache.exec("a", () -> "second");
+        MatcherAssert.assertThat(rejected.get(), Matchers.equalTo(2));
+    }
+}
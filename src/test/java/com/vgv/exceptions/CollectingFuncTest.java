@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CollectingFunc}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class CollectingFuncTest {
+
+    /**
+     * Collects rejected elements of a parallel stream.
+     */
+    @Test
+    public void collectsRejectedElementsInParallel() {
+        final int size = 10_000;
+        final Rejects<Integer> rejects = new Rejects<>();
+        final List<Integer> values = IntStream.range(0, size).boxed()
+            .parallel()
+            .flatMap(
+                new CollectingFunc<>(
+                    new MultiCatch(
+                        new Catch(
+                            IllegalArgumentException.class,
+                            exp -> new FakeOperations().exec()
+                        )
+                    ),
+                    CollectingFuncTest::even,
+                    rejects
+                )
+            ).collect(Collectors.toList());
+        MatcherAssert.assertThat(values.size(), Matchers.equalTo(size / 2));
+        MatcherAssert.assertThat(
+            rejects.merged().size(),
+            Matchers.equalTo(size / 2)
+        );
+    }
+
+    /**
+     * Catch blocks are asked for support once per rejected element, even
+     * with a listener attached.
+     */
+    @Test
+    public void dispatchesOncePerElement() {
+        final AtomicInteger asked = new AtomicInteger();
+        final Rejects<Integer> rejects = new Rejects<>();
+        final long count = IntStream.range(0, 2).boxed().flatMap(
+            new CollectingFunc<>(
+                new Try(
+                    new CatchBlocks() {
+                        @Override
+                        public void handle(final Exception exception) {
+                            new FakeOperations().exec();
+                        }
+
+                        @Override
+                        public boolean supports(final Exception exception) {
+                            asked.incrementAndGet();
+                            return true;
+                        }
+                    },
+                    new TryListener() {
+                        @Override
+                        public void onFailure(final Exception exception,
+                            final boolean handled) {
+                            new FakeOperations().exec();
+                        }
+                    }
+                ),
+                CollectingFuncTest::even,
+                rejects
+            )
+        ).count();
+        MatcherAssert.assertThat(count, Matchers.equalTo(1L));
+        MatcherAssert.assertThat(asked.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            rejects.merged().get(0).getKey(), Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Accept even numbers only.
+     * @param number Number
+     * @return Int Number
+     */
+    private static int even(final int number) {
+        if (number % 2 != 0) {
+            throw new IllegalArgumentException("odd");
+        }
+        return number;
+    }
+}
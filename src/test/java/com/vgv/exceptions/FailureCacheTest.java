@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link FailureCache}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FailureCacheTest {
+
+    /**
+     * Remembered failure is rethrown without executing the scalar.
+     * @throws Exception Exception
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void rethrowsRememberedFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final KeyedTryBlock<String, String> cache = new FailureCache<>(
+            new Try(), 10,
+            new Remember(IOException.class, Duration.ofMinutes(1L))
+        );
+        final ThrowableScalar<String, IOException> scalar = () -> {
+            calls.incrementAndGet();
+            throw new FileNotFoundException("not found");
+        };
+        Exception first = new IllegalStateException("none");
+        try {
+            cache.exec("a", scalar);
+        } catch (final IOException exp) {
+            first = exp;
+        }
+        final Exception[] rethrown = new Exception[2];
+        for (int idx = 0; idx < rethrown.length; ++idx) {
+            try {
+                cache.exec("a", scalar);
+            } catch (final RememberedException exp) {
+                rethrown[idx] = exp;
+            }
+        }
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            rethrown[0].getCause(), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            rethrown[1], Matchers.not(Matchers.sameInstance(rethrown[0]))
+        );
+    }
+
+    /**
+     * Failure that is not selected by any rule is not remembered.
+     */
+    @Test
+    public void doesntRememberUnselectedFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final KeyedTryBlock<String, String> cache = new FailureCache<>(
+            new Try(), 10,
+            new Remember(IOException.class, Duration.ofMinutes(1L))
+        );
+        final ThrowableScalar<String, IllegalStateException> scalar = () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("illegal");
+        };
+        for (int idx = 0; idx < 2; ++idx) {
+            try {
+                cache.exec("a", scalar);
+            } catch (final IllegalStateException exp) {
+                new FakeOperations().exec();
+            }
+        }
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Expired failure is forgotten.
+     * @throws Exception Exception
+     */
+    @Test
+    public void forgetsExpiredFailure() throws Exception {
+        final KeyedTryBlock<String, String> cache = new FailureCache<>(
+            new Try(), 10,
+            new Remember(IOException.class, Duration.ZERO)
+        );
+        try {
+            cache.exec(
+                "a",
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+        } catch (final IOException exp) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            cache.exec("a", () -> "value"),
+            Matchers.equalTo("value")
+        );
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link FlightListener}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class FlightListenerTest {
+
+    /**
+     * Executions, dispatches and failures are reported.
+     */
+    @Test
+    public void reportsExecutionsAndFailures() {
+        final List<String> events = new ArrayList<>(2);
+        final TryEvents sink = new FlightListenerTest.Recorded(events);
+        final Try block = new Try(
+            new MultiCatch(
+                new FlightCatch(
+                    "io", new Catch(IOException.class, exp -> { }), sink
+                )
+            )
+        ).with(new FlightListener(sink));
+        block.exec(() -> 1);
+        block.attempt(
+            () -> {
+                throw new IOException("io");
+            }
+        );
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains(
+                "start", "success", "start", "dispatch io 0", "done",
+                "failure IOException true"
+            )
+        );
+    }
+
+    /**
+     * Execution that fails with an error is completed, so following
+     * executions on the thread are reported correctly.
+     */
+    @Test
+    public void completesExecutionOnError() {
+        final List<String> events = new ArrayList<>(2);
+        final Try block = new Try().with(
+            new FlightListener(new FlightListenerTest.Recorded(events))
+        );
+        try {
+            block.exec(
+                () -> {
+                    throw new AssertionError("error");
+                }
+            );
+        } catch (final AssertionError err) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains("start", "failure AssertionError false")
+        );
+    }
+
+    /**
+     * Execution whose catch block throws is completed, and unbalanced
+     * hooks neither fail nor grow the stack.
+     */
+    @Test
+    public void toleratesUnbalancedHooks() {
+        final List<String> events = new ArrayList<>(2);
+        final FlightListener listener =
+            new FlightListener(new FlightListenerTest.Recorded(events));
+        final Try block = new Try(
+            new MultiCatch(
+                new Catch(
+                    IOException.class,
+                    exp -> {
+                        throw new IllegalStateException("catch");
+                    }
+                )
+            ),
+            listener
+        );
+        try {
+            block.exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+        } catch (final IllegalStateException | IOException exp) {
+            new FakeOperations().exec();
+        }
+        listener.onSuccess();
+        final int starts = 100;
+        for (int idx = 0; idx < starts; ++idx) {
+            listener.onStart();
+        }
+        events.clear();
+        block.exec(() -> 1);
+        MatcherAssert.assertThat(
+            events, Matchers.contains("start", "success")
+        );
+    }
+
+    /**
+     * Flight events can always be used, with or without Flight Recorder.
+     */
+    @Test
+    public void acceptsEventsWithoutRecording() {
+        final TryEvents events = new FlightEvents();
+        events.execution().success();
+        events.execution().failure(new IOException("io"), true);
+        events.dispatch("io", new IOException("io"), 0).done();
+        MatcherAssert.assertThat(events, Matchers.notNullValue());
+    }
+
+    /**
+     * Events sink that records events.
+     */
+    private static final class Recorded implements TryEvents,
+        TryEvents.Execution, TryEvents.Dispatch {
+
+        /**
+         * Events.
+         */
+        private final List<String> events;
+
+        /**
+         * Ctor.
+         * @param evts Events
+         */
+        Recorded(final List<String> evts) {
+            this.events = evts;
+        }
+
+        @Override
+        public TryEvents.Execution execution() {
+            this.events.add("start");
+            return this;
+        }
+
+        @Override
+        public TryEvents.Dispatch dispatch(final String block,
+            final Exception exception, final int distance) {
+            this.events.add(String.format("dispatch %s %d", block, distance));
+            return this;
+        }
+
+        @Override
+        public void mapping(final Exception exception,
+            final Exception mapped) {
+            this.events.add("mapping");
+        }
+
+        @Override
+        public void finallyFailure(final Exception exception) {
+            this.events.add("finally");
+        }
+
+        @Override
+        public void success() {
+            this.events.add("success");
+        }
+
+        @Override
+        public void failure(final Throwable failure, final boolean handled) {
+            this.events.add(
+                String.format(
+                    "failure %s %b",
+                    failure.getClass().getSimpleName(), handled
+                )
+            );
+        }
+
+        @Override
+        public void done() {
+            this.events.add("done");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Histogram}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class HistogramTest {
+
+    /**
+     * Percentiles are within bucket precision.
+     */
+    @Test
+    public void computesPercentiles() {
+        final Histogram histogram = new Histogram();
+        final int total = 1000;
+        for (int idx = 1; idx <= total; ++idx) {
+            histogram.record(idx);
+        }
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        final long median = 500L;
+        final long tail = 990L;
+        MatcherAssert.assertThat(
+            snapshot.percentile(50.0),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(median),
+                Matchers.lessThan(median + median / 8L)
+            )
+        );
+        MatcherAssert.assertThat(
+            snapshot.percentile(99.0),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(tail),
+                Matchers.lessThan(tail + tail / 8L)
+            )
+        );
+    }
+
+    /**
+     * Interval snapshot resets counts.
+     */
+    @Test
+    public void resetsInterval() {
+        final Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(0L);
+        MatcherAssert.assertThat(
+            histogram.interval().count(), Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            histogram.snapshot().count(), Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Keeps exact sum of values until interval snapshot.
+     */
+    @Test
+    public void sumsValues() {
+        final Histogram histogram = new Histogram();
+        histogram.record(3L);
+        histogram.record(1_000_003L);
+        histogram.record(-5L);
+        MatcherAssert.assertThat(
+            histogram.interval().sum(), Matchers.equalTo(1_000_006L)
+        );
+        MatcherAssert.assertThat(
+            histogram.snapshot().sum(), Matchers.equalTo(0L)
+        );
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link JournalCatch}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class JournalCatchTest {
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Journal keeps class, message, stack trace and causes.
+     * @throws Exception Exception
+     */
+    @Test
+    public void journalsExceptions() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        try (JournalCatch journal = new JournalCatch(
+            new Catch(IOException.class, exp -> { }), dir, 1 << 16, 2
+        )) {
+            journal.handle(
+                new IOException("outer", new IllegalStateException("inner"))
+            );
+            journal.handle(new IOException("second"));
+        }
+        final List<Throwable> read = JournalCatchTest.read(dir);
+        MatcherAssert.assertThat(read.size(), Matchers.equalTo(2));
+        final Throwable first = read.get(0);
+        MatcherAssert.assertThat(
+            first.toString(), Matchers.equalTo("java.io.IOException: outer")
+        );
+        MatcherAssert.assertThat(
+            first.getStackTrace()[0].getMethodName(),
+            Matchers.equalTo("journalsExceptions")
+        );
+        MatcherAssert.assertThat(
+            first.getCause().getMessage(), Matchers.equalTo("inner")
+        );
+        MatcherAssert.assertThat(
+            read.get(1).getMessage(), Matchers.equalTo("second")
+        );
+    }
+
+    /**
+     * Full segments are rotated and oldest are deleted.
+     * @throws Exception Exception
+     */
+    @Test
+    public void rotatesSegments() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final int total = 1000;
+        try (JournalCatch journal = new JournalCatch(
+            new Catch(IOException.class, exp -> { }), dir, 1 << 12, 2
+        )) {
+            for (int idx = 0; idx < total; ++idx) {
+                journal.handle(new IOException(String.valueOf(idx)));
+            }
+        }
+        final List<Throwable> read = JournalCatchTest.read(dir);
+        MatcherAssert.assertThat(
+            read.get(read.size() - 1).getMessage(),
+            Matchers.equalTo(String.valueOf(total - 1))
+        );
+        MatcherAssert.assertThat(read.size(), Matchers.lessThan(total));
+        MatcherAssert.assertThat(
+            JournalCatchTest.segments(dir), Matchers.lessThanOrEqualTo(2L)
+        );
+    }
+
+    /**
+     * Segments of previous runs count towards the limit.
+     * @throws Exception Exception
+     */
+    @Test
+    public void prunesSegmentsOfPreviousRuns() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final int runs = 3;
+        for (int run = 0; run < runs; ++run) {
+            try (JournalCatch journal = new JournalCatch(
+                new Catch(IOException.class, exp -> { }), dir, 1 << 12, 2
+            )) {
+                journal.handle(new IOException(String.valueOf(run)));
+            }
+        }
+        MatcherAssert.assertThat(
+            JournalCatchTest.segments(dir), Matchers.equalTo(2L)
+        );
+    }
+
+    /**
+     * Record larger than a segment is skipped without deleting segments.
+     * @throws Exception Exception
+     */
+    @Test
+    public void skipsOversizedRecord() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final char[] text = new char[1 << 13];
+        Arrays.fill(text, 'x');
+        try (JournalCatch journal = new JournalCatch(
+            new Catch(IOException.class, exp -> { }), dir, 1 << 12, 1
+        )) {
+            journal.handle(new IOException("small"));
+            journal.handle(new IOException(new String(text)));
+        }
+        final List<Throwable> read = JournalCatchTest.read(dir);
+        MatcherAssert.assertThat(read.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            read.get(0).getMessage(), Matchers.equalTo("small")
+        );
+    }
+
+    /**
+     * Exceptions not supported by the block are not journaled.
+     * @throws Exception Exception
+     */
+    @Test
+    public void skipsUnsupportedException() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        try (JournalCatch journal = new JournalCatch(
+            new Catch(IOException.class, exp -> { }), dir, 1 << 12, 1
+        )) {
+            new Try(journal).attempt(
+                () -> {
+                    throw new IllegalStateException("state");
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            JournalCatchTest.segments(dir), Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Reading stops at a record whose contents do not match its checksum.
+     * @throws Exception Exception
+     */
+    @Test
+    public void stopsAtCorruptRecord() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        try (JournalCatch journal = new JournalCatch(
+            new Catch(IOException.class, exp -> { }), dir, 1 << 12, 1
+        )) {
+            journal.handle(new IOException("first"));
+            journal.handle(new IOException("second"));
+        }
+        final Path file = JournalReader.segments(dir).get(0);
+        final byte[] bytes = Files.readAllBytes(file);
+        final int second = Integer.BYTES + JournalCatch.HEADER
+            + ByteBuffer.wrap(bytes, Integer.BYTES, Integer.BYTES).getInt();
+        bytes[second + JournalCatch.HEADER + 2] ^= 1;
+        Files.write(file, bytes);
+        final List<Throwable> read = JournalCatchTest.read(dir);
+        MatcherAssert.assertThat(read.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            read.get(0).getMessage(), Matchers.equalTo("first")
+        );
+    }
+
+    /**
+     * Journal without segments is rejected.
+     * @throws Exception Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroSegments() throws Exception {
+        new JournalCatch(
+            new Catch(IOException.class, exp -> { }),
+            this.folder.newFolder().toPath(), 1 << 12, 0
+        ).close();
+    }
+
+    /**
+     * Segment too small for any record is rejected.
+     * @throws Exception Exception
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTinySegment() throws Exception {
+        new JournalCatch(
+            new Catch(IOException.class, exp -> { }),
+            this.folder.newFolder().toPath(), Long.BYTES, 1
+        ).close();
+    }
+
+    /**
+     * Number of segments in a journal directory.
+     * @param dir Directory
+     * @return Long Number of segments
+     * @throws IOException If directory can't be listed
+     */
+    private static long segments(final Path dir) throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.count();
+        }
+    }
+
+    /**
+     * Read all exceptions of a journal directory.
+     * @param dir Directory
+     * @return List of exceptions
+     * @throws IOException If journal can't be read
+     */
+    private static List<Throwable> read(final Path dir)
+        throws IOException {
+        final List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.sorted().collect(Collectors.toList());
+        }
+        final List<Throwable> result = new ArrayList<>(1);
+        for (final Path file : files) {
+            new JournalReader(file).read((time, exp) -> result.add(exp));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LatencyTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class LatencyTryTest {
+
+    /**
+     * Success, failure, handler and finally durations are recorded
+     * separately.
+     */
+    @Test
+    public void recordsPathsSeparately() {
+        final Latencies latencies = new Latencies();
+        final TryBlock block = new LatencyTry(
+            new Try(
+                new LatencyCatches(
+                    new MultiCatch(new Catch(IOException.class, exp -> { })),
+                    latencies
+                )
+            ).with(new LatencyFinally(() -> { }, latencies)),
+            latencies
+        );
+        block.exec(() -> 1);
+        block.attempt(
+            () -> {
+                throw new IOException("io");
+            }
+        );
+        MatcherAssert.assertThat(
+            latencies.success().snapshot().count(), Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            latencies.failure(IOException.class).snapshot().count(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            latencies.handler().snapshot().count(), Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            latencies.fnly().snapshot().count(), Matchers.equalTo(2L)
+        );
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MeteredTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class MeteredTryTest {
+
+    /**
+     * Counts executions, outcomes and handler invocations.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void countsExecutions() {
+        final TryMetrics metrics = new TryMetrics();
+        final TryBlock block = new MeteredTry(
+            new Try(
+                new MeteredCatch(
+                    "io", new Catch(IOException.class, exp -> { }), metrics
+                ),
+                new MeteredCatch(
+                    "illegal",
+                    new Catch(IllegalStateException.class, exp -> { }),
+                    metrics
+                )
+            ),
+            metrics
+        );
+        block.exec(() -> 1);
+        block.attempt(
+            () -> {
+                throw new IOException("io");
+            }
+        );
+        try {
+            block.exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            new FakeOperations().exec();
+        }
+        final TryMetrics.Snapshot snapshot = metrics.snapshot();
+        final long total = 3L;
+        MatcherAssert.assertThat(
+            snapshot.executions(), Matchers.equalTo(total)
+        );
+        MatcherAssert.assertThat(snapshot.successes(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(
+            snapshot.failures(IOException.class), Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(snapshot.handled("io"), Matchers.equalTo(2L));
+        MatcherAssert.assertThat(
+            snapshot.handled("illegal"), Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Counts failures of finally blocks.
+     */
+    @Test
+    public void countsFinallyFailures() {
+        final TryMetrics metrics = new TryMetrics();
+        try {
+            new MeteredFinally(
+                () -> {
+                    throw new IOException("close");
+                },
+                metrics
+            ).exec();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            metrics.snapshot().finallyFailures(), Matchers.equalTo(1L)
+        );
+    }
+
+    /**
+     * Exception not supported by the closest block is not counted.
+     */
+    @Test
+    public void skipsUnsupportedException() {
+        final TryMetrics metrics = new TryMetrics();
+        new Try(
+            new MeteredCatch(
+                "io", new Catch(IOException.class, exp -> { }), metrics
+            )
+        ).attempt(
+            () -> {
+                throw new IllegalStateException("illegal");
+            }
+        );
+        MatcherAssert.assertThat(
+            metrics.snapshot().handled("io"), Matchers.equalTo(0L)
+        );
+    }
+}
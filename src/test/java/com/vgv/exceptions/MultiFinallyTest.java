@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MultiFinally}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class MultiFinallyTest {
+
+    /**
+     * Executes all blocks and attaches subsequent failures as suppressed.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void suppressesSubsequentFailures() {
+        final FakeOperations operations = new FakeOperations();
+        Exception failure = new IllegalStateException("none");
+        try {
+            new MultiFinally(
+                () -> {
+                    throw new IOException("first");
+                },
+                () -> {
+                    throw new IllegalStateException("second");
+                },
+                operations::exec
+            ).exec();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            failure = exp;
+        }
+        MatcherAssert.assertThat(
+            failure.getMessage(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            failure.getSuppressed()[0].getMessage(),
+            Matchers.equalTo("second")
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+}
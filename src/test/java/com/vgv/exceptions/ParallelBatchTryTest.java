@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ParallelBatchTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ParallelBatchTryTest {
+
+    /**
+     * Number of scalars.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * Every n-th scalar fails.
+     */
+    private static final int NTH = 10;
+
+    /**
+     * Collects values in original order and all failures.
+     */
+    @Test
+    public void collectsValuesAndFailures() {
+        final AtomicInteger handled = new AtomicInteger();
+        final Batch<Integer> batch = new ParallelBatchTry(
+            new ForkJoinPool(4),
+            new MultiCatch(
+                new Catch(IOException.class, exp -> handled.incrementAndGet())
+            )
+        ).exec(ParallelBatchTryTest.scalars());
+        MatcherAssert.assertThat(
+            batch.values().size(),
+            Matchers.equalTo(ParallelBatchTryTest.SIZE * 9 / 10)
+        );
+        MatcherAssert.assertThat(
+            batch.values().get(1),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            batch.failures().index(1),
+            Matchers.equalTo(ParallelBatchTryTest.NTH)
+        );
+        MatcherAssert.assertThat(
+            handled.get(),
+            Matchers.equalTo(ParallelBatchTryTest.SIZE / 10)
+        );
+    }
+
+    /**
+     * Batch is not stalled by an outside lock on catch blocks.
+     */
+    @Test
+    public void ignoresLockOnCatchBlocks() {
+        final AtomicInteger handled = new AtomicInteger();
+        final CatchBlocks blocks = new MultiCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet())
+        );
+        synchronized (blocks) {
+            new ParallelBatchTry(new ForkJoinPool(4), blocks)
+                .exec(ParallelBatchTryTest.scalars());
+        }
+        MatcherAssert.assertThat(
+            handled.get(),
+            Matchers.equalTo(ParallelBatchTryTest.SIZE / 10)
+        );
+    }
+
+    /**
+     * Fail-fast mode throws first failure.
+     * @throws IOException IOException
+     */
+    @Test(expected = IOException.class)
+    public void failsFast() throws IOException {
+        new ParallelBatchTry(
+            new ForkJoinPool(4), new MultiCatch()
+        ).execOrFail(ParallelBatchTryTest.scalars());
+    }
+
+    /**
+     * Scalars where every n-th one fails.
+     * @return List Scalars
+     */
+    private static List<ThrowableScalar<Integer, IOException>> scalars() {
+        final List<ThrowableScalar<Integer, IOException>> scalars =
+            new ArrayList<>(ParallelBatchTryTest.SIZE);
+        for (int idx = 0; idx < ParallelBatchTryTest.SIZE; ++idx) {
+            final int value = idx;
+            scalars.add(
+                () -> {
+                    if (value % ParallelBatchTryTest.NTH == 0) {
+                        throw new IOException(String.valueOf(value));
+                    }
+                    return value;
+                }
+            );
+        }
+        return scalars;
+    }
+}
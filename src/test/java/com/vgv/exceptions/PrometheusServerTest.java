@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PrometheusServer}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class PrometheusServerTest {
+
+    /**
+     * Serves counters and latencies in text format.
+     * @throws Exception Exception
+     */
+    @Test
+    public void servesMetrics() throws Exception {
+        final TryMetrics metrics = new TryMetrics();
+        final Latencies latencies = new Latencies();
+        new MeteredTry(
+            new LatencyTry(
+                new Try(
+                    new MeteredCatch(
+                        "io", new Catch(IOException.class, exp -> { }),
+                        metrics
+                    )
+                ),
+                latencies
+            ),
+            metrics
+        ).attempt(
+            () -> {
+                throw new IOException("io");
+            }
+        );
+        final String body;
+        try (PrometheusServer server = new PrometheusServer(
+            0, new PrometheusText("orders", metrics, latencies)
+        );
+            InputStream input = new URL(
+                String.format("http://127.0.0.1:%d/metrics", server.port())
+            ).openStream();
+            Scanner scanner = new Scanner(
+                input, StandardCharsets.UTF_8.name()
+            ).useDelimiter("\\A")) {
+            body = scanner.next();
+        }
+        MatcherAssert.assertThat(
+            body,
+            Matchers.containsString(
+                String.join(
+                    "",
+                    "vgv_try_failures_total{try=\"orders\",",
+                    "exception=\"java.io.IOException\"} 1"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            body,
+            Matchers.containsString(
+                "vgv_try_handled_total{try=\"orders\",catch=\"io\"} 1"
+            )
+        );
+        MatcherAssert.assertThat(
+            body,
+            Matchers.containsString(
+                String.join(
+                    "",
+                    "vgv_try_latency_seconds_count{try=\"orders\",",
+                    "path=\"failure\",exception=\"java.io.IOException\"} 1"
+                )
+            )
+        );
+    }
+}
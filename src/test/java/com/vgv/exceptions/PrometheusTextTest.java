@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PrometheusText}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class PrometheusTextTest {
+
+    /**
+     * Writes series of a family together under a single type header.
+     */
+    @Test
+    public void groupsSeriesByFamily() {
+        final Map<String, TryMetrics> metrics = new HashMap<>(2);
+        metrics.put("orders", new TryMetrics());
+        metrics.put("billing", new TryMetrics());
+        final Map<String, Latencies> latencies = new HashMap<>(0);
+        MatcherAssert.assertThat(
+            new PrometheusText(metrics, latencies).asString(),
+            Matchers.startsWith(
+                String.join(
+                    "\n",
+                    "# TYPE vgv_try_executions_total counter",
+                    "vgv_try_executions_total{try=\"billing\"} 0",
+                    "vgv_try_executions_total{try=\"orders\"} 0",
+                    "# TYPE vgv_try_successes_total counter",
+                    "vgv_try_successes_total{try=\"billing\"} 0",
+                    "vgv_try_successes_total{try=\"orders\"} 0",
+                    "# TYPE vgv_try_failures_total counter",
+                    "# TYPE vgv_try_handled_total counter",
+                    "# TYPE vgv_try_finally_failures_total counter",
+                    ""
+                )
+            )
+        );
+    }
+
+    /**
+     * Writes sum of latencies in seconds.
+     */
+    @Test
+    public void writesLatencySum() {
+        final Latencies latencies = new Latencies();
+        latencies.success().record(1_000_000_000L);
+        latencies.success().record(500_000_000L);
+        MatcherAssert.assertThat(
+            new PrometheusText("orders", new TryMetrics(), latencies)
+                .asString(),
+            Matchers.containsString(
+                String.join(
+                    "",
+                    "vgv_try_latency_seconds_sum{try=\"orders\",",
+                    "path=\"success\"} 1.500000000\n",
+                    "vgv_try_latency_seconds_count{try=\"orders\",",
+                    "path=\"success\"} 2\n"
+                )
+            )
+        );
+    }
+}
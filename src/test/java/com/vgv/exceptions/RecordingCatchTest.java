@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link RecordingCatch}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class RecordingCatchTest {
+
+    /**
+     * Only the most recent failures are kept on heap.
+     */
+    @Test
+    public void keepsRecentFailures() {
+        final FailureRing ring = new FailureRing(2, 0);
+        final CatchBlock blk = new RecordingCatch(
+            "io", new Catch(IOException.class, exp -> { }), ring
+        );
+        final int total = 3;
+        for (int idx = 0; idx < total; ++idx) {
+            blk.handle(new IOException(String.valueOf(idx)));
+        }
+        final List<FailureRecord> records = ring.dump();
+        MatcherAssert.assertThat(records.size(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            records.get(0).message(), Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            records.get(1).handler(), Matchers.equalTo("io")
+        );
+    }
+
+    /**
+     * Failures are kept off heap with sampled stack traces.
+     */
+    @Test
+    public void keepsFailuresOffHeap() {
+        final FailureRing ring = new FailureRing(4, 2, true);
+        final CatchBlock blk = new RecordingCatch(
+            "io", new Catch(IOException.class, exp -> { }), ring
+        );
+        blk.handle(new IOException("first"));
+        blk.handle(new IOException("second"));
+        final List<FailureRecord> records = ring.dump();
+        MatcherAssert.assertThat(
+            records.get(0).exception(),
+            Matchers.equalTo("java.io.IOException")
+        );
+        MatcherAssert.assertThat(
+            records.get(0).trace(),
+            Matchers.containsString("RecordingCatchTest")
+        );
+        MatcherAssert.assertThat(
+            records.get(1).message(), Matchers.equalTo("second")
+        );
+        MatcherAssert.assertThat(
+            records.get(1).trace(), Matchers.equalTo("")
+        );
+    }
+
+    /**
+     * Failures not supported by the block are not recorded.
+     */
+    @Test
+    public void skipsUnsupportedFailures() {
+        final FailureRing ring = new FailureRing(2, 0);
+        new Try(
+            new RecordingCatch(
+                "io", new Catch(IOException.class, exp -> { }), ring
+            )
+        ).attempt(
+            () -> {
+                throw new IllegalStateException("state");
+            }
+        );
+        MatcherAssert.assertThat(ring.dump().size(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Message is truncated off heap without splitting a character.
+     */
+    @Test
+    public void truncatesOnCharacterBoundary() {
+        final FailureRing ring = new FailureRing(1, 0, true);
+        final StringBuilder message = new StringBuilder(0);
+        final int size = 511;
+        for (int idx = 0; idx < size; ++idx) {
+            message.append('a');
+        }
+        final String prefix = message.toString();
+        new RecordingCatch(
+            "io", new Catch(IOException.class, exp -> { }), ring
+        ).handle(new IOException(message.append("\u00e9").toString()));
+        MatcherAssert.assertThat(
+            ring.dump().get(0).message(), Matchers.equalTo(prefix)
+        );
+    }
+
+    /**
+     * Ring without slots is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyRing() {
+        new FailureRing(0, 0);
+    }
+
+    /**
+     * Direct ring rejects capacity that does not fit in a buffer.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsHugeDirectRing() {
+        new FailureRing(Integer.MAX_VALUE, 0, true);
+    }
+}
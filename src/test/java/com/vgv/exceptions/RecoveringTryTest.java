@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link RecoveringTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class RecoveringTryTest {
+
+    /**
+     * Returns fallback value of recover block.
+     * @throws Exception Exception
+     */
+    @Test
+    public void returnsFallbackValue() throws Exception {
+        MatcherAssert.assertThat(
+            new RecoveringTry<>(
+                new Recover<>(IOException.class, exp -> "fallback")
+            ).exec(
+                () -> {
+                    throw new FileNotFoundException("not found");
+                }),
+            Matchers.equalTo("fallback")
+        );
+    }
+
+    /**
+     * Catch block with closer inheritance distance handles exception
+     * and it is rethrown.
+     * @throws Exception Exception
+     */
+    @Test(expected = FileNotFoundException.class)
+    public void rethrowsWhenCatchBlockIsCloser() throws Exception {
+        new RecoveringTry<>(
+            new ListOf<>(
+                new Catch(
+                    FileNotFoundException.class,
+                    exp -> new FakeOperations().exec()
+                )
+            ),
+            new Recover<>(IOException.class, exp -> "fallback")
+        ).exec(
+            () -> {
+                throw new FileNotFoundException("not found");
+            });
+    }
+
+    /**
+     * Recover block with closer inheritance distance wins over
+     * catch block.
+     * @throws Exception Exception
+     */
+    @Test
+    public void recoversWhenRecoverBlockIsCloser() throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        MatcherAssert.assertThat(
+            new RecoveringTry<>(
+                new ListOf<>(
+                    new Catch(Exception.class, exp -> operations.exec())
+                ),
+                new Recover<>(IOException.class, Exception::getMessage)
+            ).exec(
+                () -> {
+                    throw new IOException("recovered");
+                }),
+            Matchers.equalTo("recovered")
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(false)
+        );
+    }
+
+    /**
+     * Exception not supported by any block goes through.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsUnsupportedException() {
+        new RecoveringTry<>(
+            new Recover<>(IOException.class, exp -> "fallback")
+        ).exec(
+            () -> {
+                throw new IllegalStateException("illegal");
+            });
+    }
+
+    /**
+     * Recover block does nothing when used as a plain catch block.
+     * @throws Exception Exception
+     */
+    @Test(expected = IOException.class)
+    public void passesThroughPlainTry() throws Exception {
+        new Try(
+            new Recover<>(IOException.class, exp -> "fallback")
+        ).exec(
+            () -> {
+                throw new IOException("io");
+            }
+        );
+    }
+
+    /**
+     * Finally block is executed after recovery.
+     * @throws Exception Exception
+     */
+    @Test
+    public void executesFinallyAfterRecovery() throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        MatcherAssert.assertThat(
+            new RecoveringTry<>(
+                new Recover<>(IOException.class, exp -> "fallback")
+            ).with(operations::exec).exec(
+                () -> {
+                    throw new IOException("io");
+                }),
+            Matchers.equalTo("fallback")
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ResourceTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ResourceTryTest {
+
+    /**
+     * Released resource is reused.
+     * @throws Exception Exception
+     */
+    @Test
+    public void reusesReleasedResource() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final ResourceTry<AutoCloseable> resources = new ResourceTry<>(
+            new Try(),
+            new Catch(SocketException.class, exp -> { }),
+            new QueuedPool<>(
+                () -> {
+                    created.incrementAndGet();
+                    return () -> { };
+                },
+                1
+            )
+        );
+        resources.exec(res -> 1);
+        resources.exec(res -> 2);
+        MatcherAssert.assertThat(created.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Resource is evicted on supported failure.
+     * @throws Exception Exception
+     */
+    @Test
+    public void evictsResourceOnSupportedFailure() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final ResourceTry<AutoCloseable> resources = new ResourceTry<>(
+            new Try(),
+            new Catch(SocketException.class, exp -> { }),
+            new QueuedPool<>(
+                () -> {
+                    created.incrementAndGet();
+                    return closed::incrementAndGet;
+                },
+                1
+            )
+        );
+        try {
+            resources.exec(
+                res -> {
+                    throw new SocketException("connection reset");
+                }
+            );
+        } catch (final SocketException exp) {
+            new FakeOperations().exec();
+        }
+        resources.exec(res -> 1);
+        MatcherAssert.assertThat(closed.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(created.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Close failure is attached as suppressed exception.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void suppressesCloseFailure() {
+        Exception failure = new IllegalStateException("none");
+        try {
+            new ResourceTry<>(
+                new Try(),
+                new Catch(IOException.class, exp -> { }),
+                new SuppliedPool<>(
+                    () -> () -> {
+                        throw new IOException("close");
+                    }
+                )
+            ).exec(
+                res -> {
+                    throw new IOException("use");
+                }
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            failure = exp;
+        }
+        MatcherAssert.assertThat(
+            failure.getSuppressed()[0].getMessage(),
+            Matchers.equalTo("close")
+        );
+    }
+
+    /**
+     * Resource is evicted when function fails with an error.
+     * @throws Exception Exception
+     */
+    @Test
+    public void evictsResourceOnError() throws Exception {
+        final AtomicInteger closed = new AtomicInteger();
+        final ResourceTry<AutoCloseable> resources = new ResourceTry<>(
+            new Try(),
+            new Catch(SocketException.class, exp -> { }),
+            new QueuedPool<>(() -> closed::incrementAndGet, 1)
+        );
+        try {
+            resources.exec(
+                res -> {
+                    throw new AssertionError("broken");
+                }
+            );
+        } catch (final AssertionError err) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(closed.get(), Matchers.equalTo(1));
+    }
+}
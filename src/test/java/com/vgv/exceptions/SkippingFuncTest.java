@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link SkippingFunc}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class SkippingFuncTest {
+
+    /**
+     * Skips elements that fail with supported exception.
+     */
+    @Test
+    public void skipsFailedElements() {
+        MatcherAssert.assertThat(
+            Stream.of("1", "x", "3").flatMap(
+                new SkippingFunc<>(
+                    new MultiCatch(
+                        new Catch(
+                            NumberFormatException.class,
+                            exp -> new FakeOperations().exec()
+                        )
+                    ),
+                    Integer::parseInt
+                )
+            ).collect(Collectors.toList()),
+            Matchers.contains(1, 3)
+        );
+    }
+
+    /**
+     * Unsupported checked exception goes through wrapped.
+     */
+    @Test(expected = UncheckedIOException.class)
+    public void wrapsUnsupportedCheckedException() {
+        Stream.of("a").flatMap(
+            new SkippingFunc<String, String>(
+                new MultiCatch(),
+                input -> {
+                    throw new IOException(input);
+                }
+            )
+        ).collect(Collectors.toList());
+    }
+
+    /**
+     * Elements are executed through given try, including its listener.
+     */
+    @Test
+    public void usesTryPolicy() {
+        final AtomicInteger failures = new AtomicInteger();
+        Stream.of("1", "x", "y").flatMap(
+            new SkippingFunc<>(
+                new Try(
+                    new MultiCatch(
+                        new Catch(NumberFormatException.class, exp -> { })
+                    ),
+                    new TryListener() {
+                        @Override
+                        public void onFailure(final Exception exception,
+                            final boolean handled) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                ),
+                Integer::parseInt
+            )
+        ).collect(Collectors.toList());
+        MatcherAssert.assertThat(failures.get(), Matchers.equalTo(2));
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Success}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class SuccessTest {
+
+    /**
+     * Outcomes of common constants are shared.
+     */
+    @Test
+    public void sharesCommonConstants() {
+        MatcherAssert.assertThat(
+            Success.of(true),
+            Matchers.sameInstance(Success.of(true))
+        );
+        MatcherAssert.assertThat(
+            Success.of(1),
+            Matchers.sameInstance(Success.of(1))
+        );
+    }
+
+    /**
+     * Maps value of successful outcome.
+     */
+    @Test
+    public void mapsValue() {
+        final int expected = 3;
+        MatcherAssert.assertThat(
+            new Success<>("abc").map(String::length).orElse(0),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * Successful outcome is not recovered.
+     */
+    @Test
+    public void isNotRecovered() {
+        MatcherAssert.assertThat(
+            new Success<>("value").recover(exp -> "recovered").orElse(""),
+            Matchers.equalTo("value")
+        );
+    }
+}
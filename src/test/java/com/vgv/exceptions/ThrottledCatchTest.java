@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ThrottledCatch}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ThrottledCatchTest {
+
+    /**
+     * Exceptions above the limit are not handled.
+     */
+    @Test
+    public void limitsHandlerInvocations() {
+        final AtomicInteger handled = new AtomicInteger();
+        final ThrottledCatch blk = new ThrottledCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            2L
+        );
+        final int total = 5;
+        for (int idx = 0; idx < total; ++idx) {
+            blk.handle(new IOException("storm"));
+        }
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Dropped exceptions are summarized per class.
+     */
+    @Test
+    public void summarizesDroppedExceptions() {
+        final ThrottledCatch blk = new ThrottledCatch(
+            new Catch(IOException.class, exp -> { }), 1L
+        );
+        final int total = 4;
+        for (int idx = 0; idx < total; ++idx) {
+            blk.handle(new IOException("storm"));
+        }
+        final List<String> lines = new ArrayList<>(1);
+        blk.summarize(lines::add);
+        blk.summarize(lines::add);
+        MatcherAssert.assertThat(
+            lines,
+            Matchers.contains("IOException x 3 in last 0s")
+        );
+    }
+
+    /**
+     * Unsupported exceptions do not use the limit.
+     */
+    @Test
+    public void ignoresUnsupportedExceptions() {
+        final AtomicInteger handled = new AtomicInteger();
+        final ThrottledCatch blk = new ThrottledCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            1L
+        );
+        blk.handle(new IllegalStateException("other"));
+        blk.handle(new IOException("io"));
+        final List<String> lines = new ArrayList<>(1);
+        blk.summarize(lines::add);
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(lines, Matchers.empty());
+    }
+
+    /**
+     * Concurrent callers do not exceed the limit.
+     * @throws Exception Exception
+     */
+    @Test
+    public void keepsLimitUnderContention() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final ThrottledCatch blk = new ThrottledCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            10L
+        );
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            executor.execute(
+                () -> {
+                    for (int idx = 0; idx < 100; ++idx) {
+                        blk.handle(new IOException("storm"));
+                    }
+                }
+            );
+        }
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(10));
+    }
+
+    /**
+     * Concurrent summaries count every dropped exception exactly once.
+     * @throws Exception Exception
+     */
+    @Test
+    public void countsDropsOnceAcrossSummaries() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final ThrottledCatch blk = new ThrottledCatch(
+            new Catch(IOException.class, exp -> handled.incrementAndGet()),
+            1L
+        );
+        final AtomicLong reported = new AtomicLong();
+        final int threads = 8;
+        final int total = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            executor.execute(
+                () -> {
+                    for (int idx = 0; idx < total; ++idx) {
+                        blk.handle(new IOException("storm"));
+                        blk.summarize(
+                            line -> reported.addAndGet(
+                                ThrottledCatchTest.count(line)
+                            )
+                        );
+                    }
+                }
+            );
+        }
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        blk.summarize(
+            line -> reported.addAndGet(ThrottledCatchTest.count(line))
+        );
+        MatcherAssert.assertThat(
+            reported.get() + handled.get(),
+            Matchers.equalTo((long) threads * total)
+        );
+    }
+
+    /**
+     * Count of summary line.
+     * @param line Summary line
+     * @return Long Count
+     */
+    private static long count(final String line) {
+        return Long.parseLong(line.split(" ")[2].replace(",", ""));
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ThrowableEncoder} and {@link ThrowableDecoder}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class ThrowableEncoderTest {
+
+    /**
+     * Buffer size.
+     */
+    private static final int SIZE = 65536;
+
+    /**
+     * Decoded throwable keeps class, message, cause and suppressed
+     * exceptions.
+     */
+    @Test
+    public void decodesCauseAndSuppressed() {
+        final IllegalStateException origin =
+            new IllegalStateException("outer", new IOException("inner"));
+        origin.addSuppressed(new IllegalArgumentException("closing"));
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        new ThrowableEncoder().encode(origin, buffer);
+        buffer.flip();
+        final Throwable decoded = new ThrowableDecoder().decode(buffer);
+        MatcherAssert.assertThat(
+            decoded.toString(),
+            Matchers.equalTo(origin.toString())
+        );
+        MatcherAssert.assertThat(
+            decoded.getCause().toString(),
+            Matchers.equalTo(origin.getCause().toString())
+        );
+        MatcherAssert.assertThat(
+            decoded.getSuppressed()[0].toString(),
+            Matchers.equalTo("java.lang.IllegalArgumentException: closing")
+        );
+        MatcherAssert.assertThat(
+            ThrowableEncoderTest.top(decoded),
+            Matchers.equalTo(ThrowableEncoderTest.top(origin))
+        );
+    }
+
+    /**
+     * Repeated throwable is written with dictionary references.
+     */
+    @Test
+    public void referencesRepeatedFrames() {
+        final IOException origin = new IOException("failed");
+        final ThrowableEncoder encoder = new ThrowableEncoder();
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        encoder.encode(origin, buffer);
+        final int first = buffer.position();
+        encoder.encode(origin, buffer);
+        MatcherAssert.assertThat(
+            buffer.position() - first,
+            Matchers.lessThan(first)
+        );
+        buffer.flip();
+        final ThrowableDecoder decoder = new ThrowableDecoder();
+        decoder.decode(buffer);
+        MatcherAssert.assertThat(
+            ThrowableEncoderTest.top(decoder.decode(buffer)),
+            Matchers.equalTo(ThrowableEncoderTest.top(origin))
+        );
+    }
+
+    /**
+     * Throwable that does not fit leaves buffer unchanged and can be
+     * encoded again after buffer is drained.
+     */
+    @Test
+    public void leavesBufferOnOverflow() {
+        final IOException origin = new IOException("large");
+        final ThrowableEncoder encoder = new ThrowableEncoder();
+        final ByteBuffer small = ByteBuffer.allocate(16);
+        small.put((byte) 1);
+        try {
+            encoder.encode(origin, small);
+        } catch (final BufferOverflowException ex) {
+            MatcherAssert.assertThat(small.position(), Matchers.equalTo(1));
+        }
+        final ByteBuffer large = ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        encoder.encode(origin, large);
+        large.flip();
+        MatcherAssert.assertThat(
+            new ThrowableDecoder().decode(large).getMessage(),
+            Matchers.equalTo("large")
+        );
+    }
+
+    /**
+     * Incomplete throwable is not decoded until the rest arrives.
+     */
+    @Test
+    public void waitsForCompleteThrowable() {
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        new ThrowableEncoder().encode(new IOException("partial"), buffer);
+        buffer.flip();
+        final int total = buffer.limit();
+        buffer.limit(total / 2);
+        final ThrowableDecoder decoder = new ThrowableDecoder();
+        try {
+            decoder.decode(buffer);
+        } catch (final BufferUnderflowException ex) {
+            MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(0));
+        }
+        buffer.limit(total);
+        MatcherAssert.assertThat(
+            decoder.decode(buffer).getMessage(),
+            Matchers.equalTo("partial")
+        );
+    }
+
+    /**
+     * Original exception class is rebuilt with class loader.
+     */
+    @Test
+    public void rebuildsOriginalClass() {
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        new ThrowableEncoder().encode(new IOException("io"), buffer);
+        buffer.flip();
+        MatcherAssert.assertThat(
+            new ThrowableDecoder(
+                Thread.currentThread().getContextClassLoader()
+            ).decode(buffer),
+            Matchers.instanceOf(IOException.class)
+        );
+    }
+
+    /**
+     * Length beyond the end of the buffer is not allocated.
+     */
+    @Test
+    public void checksLengthBeforeAllocation() {
+        final ByteBuffer buffer = ByteBuffer.wrap(
+            new byte[] {1, (byte) 0xE8, 0x07, 0}
+        );
+        try {
+            new ThrowableDecoder().decode(buffer);
+        } catch (final BufferUnderflowException ex) {
+            MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(0));
+        }
+        MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Length above the maximum is rejected instead of awaited.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLengthAboveMaximum() {
+        new ThrowableDecoder(null, 1 << 10, 1 << 10).decode(
+            ByteBuffer.wrap(new byte[] {1, (byte) 0xE8, 0x3F, 0})
+        );
+    }
+
+    /**
+     * Encoder and decoder forget their dictionaries at the same point
+     * of the stream.
+     */
+    @Test
+    public void resetsDictionaryInBand() {
+        final int entries = 8;
+        final ThrowableEncoder encoder = new ThrowableEncoder(entries);
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE * 4);
+        final int total = 20;
+        for (int idx = 0; idx < total; ++idx) {
+            encoder.encode(new IOException(String.valueOf(idx)), buffer);
+            if (idx == total / 2) {
+                encoder.reset();
+            }
+        }
+        buffer.flip();
+        final ThrowableDecoder decoder =
+            new ThrowableDecoder(null, 1 << 10, entries);
+        for (int idx = 0; idx < total; ++idx) {
+            MatcherAssert.assertThat(
+                decoder.decode(buffer).toString(),
+                Matchers.equalTo(
+                    String.format("java.io.IOException: %d", idx)
+                )
+            );
+        }
+    }
+
+    /**
+     * Dictionary that grows beyond its maximum without reset marker is
+     * rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnboundedDictionary() {
+        final ThrowableEncoder encoder = new ThrowableEncoder();
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE * 4);
+        encoder.encode(new IOException("first"), buffer);
+        encoder.encode(new IOException("second"), buffer);
+        buffer.flip();
+        final ThrowableDecoder decoder = new ThrowableDecoder(null, 1 << 10, 2);
+        decoder.decode(buffer);
+        decoder.decode(buffer);
+    }
+
+    /**
+     * Reference to unknown dictionary entry is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownReference() {
+        new ThrowableDecoder().decode(ByteBuffer.wrap(new byte[] {5, 0, 0}));
+    }
+
+    /**
+     * Malformed throwable nested too deep is rejected and the dictionary
+     * is rolled back.
+     */
+    @Test
+    public void rejectsDeepNesting() {
+        final int depth = 20;
+        final ByteBuffer deep = ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        deep.put(new byte[] {1, 1, 'E', 0, 0, 1});
+        for (int idx = 0; idx < depth; ++idx) {
+            deep.put(new byte[] {1, 0, 0, 1});
+        }
+        deep.flip();
+        final ThrowableDecoder decoder = new ThrowableDecoder();
+        try {
+            decoder.decode(deep);
+        } catch (final IllegalArgumentException ex) {
+            MatcherAssert.assertThat(deep.position(), Matchers.equalTo(0));
+        }
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(ThrowableEncoderTest.SIZE);
+        new ThrowableEncoder().encode(new IOException("after"), buffer);
+        buffer.flip();
+        MatcherAssert.assertThat(
+            decoder.decode(buffer).toString(),
+            Matchers.equalTo("java.io.IOException: after")
+        );
+    }
+
+    /**
+     * Top stack frame without module information.
+     * @param throwable Throwable
+     * @return String Class, method and line of top frame
+     */
+    private static String top(final Throwable throwable) {
+        final StackTraceElement frame = throwable.getStackTrace()[0];
+        return String.format(
+            "%s.%s:%d", frame.getClassName(), frame.getMethodName(),
+            frame.getLineNumber()
+        );
+    }
+}
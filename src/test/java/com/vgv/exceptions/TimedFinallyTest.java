@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TimedFinally}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TimedFinallyTest {
+
+    /**
+     * Reports overrun of time budget.
+     * @throws Exception Exception
+     */
+    @Test
+    public void reportsOverrun() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final FakeOperations operations = new FakeOperations();
+        new TimedFinally(
+            latch::await,
+            executor,
+            Duration.ofMillis(10L),
+            new Catch(TimeoutException.class, exp -> operations.exec())
+        ).exec();
+        latch.countDown();
+        executor.shutdown();
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Throwable that is neither an exception nor an error is wrapped.
+     * @throws Exception Exception
+     */
+    @Test(expected = ExecutionException.class)
+    public void wrapsCustomThrowable() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new TimedFinally(
+                () -> TimedFinallyTest.<RuntimeException>sneaky(
+                    new Throwable("custom")
+                ),
+                executor,
+                Duration.ofMinutes(1L),
+                new Catch(TimeoutException.class, exp -> { })
+            ).exec();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Overrunning block is interrupted.
+     * @throws Exception Exception
+     */
+    @Test
+    public void cancelsOverrunningBlock() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        new TimedFinally(
+            () -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                }
+            },
+            executor,
+            Duration.ofMillis(10L),
+            new Catch(TimeoutException.class, exp -> { })
+        ).exec();
+        executor.shutdown();
+        MatcherAssert.assertThat(
+            interrupted.await(1L, TimeUnit.MINUTES),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Interrupted caller keeps its interrupt flag.
+     * @throws Exception Exception
+     */
+    @Test
+    public void restoresInterruptFlag() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Thread.currentThread().interrupt();
+        boolean thrown = false;
+        try {
+            new TimedFinally(
+                latch::await,
+                executor,
+                Duration.ofMinutes(1L),
+                new Catch(TimeoutException.class, exp -> { })
+            ).exec();
+        } catch (final InterruptedException ex) {
+            thrown = true;
+        }
+        MatcherAssert.assertThat(
+            Thread.interrupted(),
+            Matchers.equalTo(true)
+        );
+        latch.countDown();
+        executor.shutdown();
+        MatcherAssert.assertThat(thrown, Matchers.equalTo(true));
+    }
+
+    /**
+     * Throw any throwable without declaring it.
+     * @param throwable Throwable
+     * @param <T> Declared throwable
+     * @throws T Never declared, always the given throwable
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneaky(final Throwable throwable)
+        throws T {
+        throw (T) throwable;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TracedTry}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TracedTryTest {
+
+    /**
+     * Fast successful execution is not reported.
+     */
+    @Test
+    public void skipsFastSuccess() {
+        final List<Span> spans = new ArrayList<>(1);
+        final SpanTracer tracer = new SpanTracer(
+            Duration.ofMinutes(1L), spans::add
+        );
+        new TracedTry(
+            "outer", new TracedTry("inner", new Try(), tracer), tracer
+        ).exec(() -> 1);
+        MatcherAssert.assertThat(spans.size(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Failed execution is reported as tree of nested spans.
+     */
+    @Test
+    public void reportsFailedTree() {
+        final List<Span> spans = new ArrayList<>(1);
+        final SpanTracer tracer = new SpanTracer(
+            Duration.ofMinutes(1L), spans::add
+        );
+        final TryBlock inner = new TracedTry(
+            "inner",
+            new Try(
+                new TracedCatch(
+                    "inner.catch",
+                    new Catch(IOException.class, exp -> { }),
+                    tracer
+                )
+            ).with(new TracedFinally("inner.finally", () -> { }, tracer)),
+            tracer
+        );
+        new TracedTry("outer", new Try(), tracer).attempt(
+            () -> inner.exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            )
+        );
+        final Span outer = spans.get(0);
+        MatcherAssert.assertThat(outer.failed(), Matchers.equalTo(true));
+        final Span span = outer.children().get(0);
+        MatcherAssert.assertThat(span.name(), Matchers.equalTo("inner"));
+        MatcherAssert.assertThat(
+            span.children().get(0).name(), Matchers.equalTo("inner.catch")
+        );
+        MatcherAssert.assertThat(
+            span.children().get(1).name(), Matchers.equalTo("inner.finally")
+        );
+    }
+
+    /**
+     * Spans that do not fit in the buffer are skipped.
+     */
+    @Test
+    public void skipsOverflow() {
+        final List<Span> spans = new ArrayList<>(1);
+        final SpanTracer tracer = new SpanTracer(
+            Duration.ZERO, spans::add, 1
+        );
+        new TracedTry(
+            "outer", new TracedTry("inner", new Try(), tracer), tracer
+        ).exec(() -> 1);
+        MatcherAssert.assertThat(
+            spans.get(0).children().size(), Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * Error closes the span, so later executions on the thread are
+     * still reported.
+     */
+    @Test
+    public void closesSpanOnError() {
+        final List<Span> spans = new ArrayList<>(1);
+        final TryBlock block = new TracedTry(
+            "traced", new Try(), new SpanTracer(Duration.ZERO, spans::add)
+        );
+        try {
+            block.exec(
+                () -> {
+                    throw new AssertionError("error");
+                }
+            );
+        } catch (final AssertionError err) {
+            new FakeOperations().exec();
+        }
+        block.exec(() -> 1);
+        MatcherAssert.assertThat(spans.size(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Failing report consumer does not close the span twice.
+     */
+    @Test
+    public void closesSpanOnceWhenReportFails() {
+        final TryBlock block = new TracedTry(
+            "traced", new Try(),
+            new SpanTracer(
+                Duration.ZERO,
+                span -> {
+                    throw new IllegalStateException("report");
+                }
+            )
+        );
+        IllegalStateException failure = null;
+        try {
+            block.exec(() -> 1);
+        } catch (final IllegalStateException exp) {
+            failure = exp;
+        }
+        MatcherAssert.assertThat(
+            failure.getMessage(),
+            Matchers.equalTo("report")
+        );
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TryExecutor}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryExecutorTest {
+
+    /**
+     * Failure of executed runnable is handled and does not reach
+     * pool thread.
+     * @throws Exception Exception
+     */
+    @Test
+    public void handlesFailureOfExecutedRunnable() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final ExecutorService executor = new TryExecutor(
+            Executors.newSingleThreadExecutor(),
+            new Try(
+                new Catch(
+                    IllegalStateException.class,
+                    exp -> handled.incrementAndGet()
+                )
+            ),
+            exp -> { }
+        );
+        executor.execute(
+            () -> {
+                throw new IllegalStateException("illegal");
+            }
+        );
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Failure of submitted callable is handled and completed into future.
+     * @throws Exception Exception
+     */
+    @Test
+    public void handlesFailureOfSubmittedCallable() throws Exception {
+        final AtomicInteger handled = new AtomicInteger();
+        final ExecutorService executor = new TryExecutor(
+            Executors.newSingleThreadExecutor(),
+            new Try(
+                new Catch(IOException.class, exp -> handled.incrementAndGet())
+            )
+        );
+        Throwable cause = new IllegalStateException("none");
+        try {
+            executor.submit(
+                () -> {
+                    throw new IOException("io");
+                }
+            ).get();
+        } catch (final ExecutionException exp) {
+            cause = exp.getCause();
+        }
+        executor.shutdown();
+        MatcherAssert.assertThat(cause, Matchers.instanceOf(IOException.class));
+        MatcherAssert.assertThat(handled.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Failure of executed runnable is passed to fallback handler.
+     * @throws Exception Exception
+     */
+    @Test
+    public void passesFailureToFallback() throws Exception {
+        final AtomicInteger fallen = new AtomicInteger();
+        final ExecutorService executor = new TryExecutor(
+            Executors.newSingleThreadExecutor(),
+            new Try(new Catch(IOException.class, exp -> { })),
+            exp -> fallen.incrementAndGet()
+        );
+        executor.execute(
+            () -> {
+                throw new IllegalStateException("unsupported");
+            }
+        );
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(fallen.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Failure supported by catch blocks is not passed to fallback handler.
+     * @throws Exception Exception
+     */
+    @Test
+    public void keepsHandledFailureFromFallback() throws Exception {
+        final AtomicInteger fallen = new AtomicInteger();
+        final ExecutorService executor = new TryExecutor(
+            Executors.newSingleThreadExecutor(),
+            new Try(new Catch(IllegalStateException.class, exp -> { })),
+            exp -> fallen.incrementAndGet()
+        );
+        executor.execute(
+            () -> {
+                throw new IllegalStateException("supported");
+            }
+        );
+        executor.shutdown();
+        executor.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(fallen.get(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Tasks that never started are returned as they were executed.
+     * @throws Exception Exception
+     */
+    @Test
+    public void returnsOriginalTasksOnShutdown() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService executor = new TryExecutor(
+            Executors.newSingleThreadExecutor(), new Try()
+        );
+        final Runnable pending = () -> { };
+        executor.execute(
+            () -> {
+                started.countDown();
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        );
+        executor.execute(pending);
+        started.await();
+        MatcherAssert.assertThat(
+            executor.shutdownNow(),
+            Matchers.contains(pending)
+        );
+        latch.countDown();
+    }
+}
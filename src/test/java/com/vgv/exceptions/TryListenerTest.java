@@ -0,0 +1,217 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TryListener}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryListenerTest {
+
+    /**
+     * Listener is notified about successful execution and finally block.
+     */
+    @Test
+    public void listensToSuccess() {
+        final List<String> events = new ArrayList<>(2);
+        new Try()
+            .with(new TryListenerTest.Recorded(events))
+            .with(() -> { })
+            .exec(() -> 1);
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains("start", "success", "finally")
+        );
+    }
+
+    /**
+     * Listener is notified about handled and mapped exception.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void listensToMappedFailure() {
+        final List<String> events = new ArrayList<>(2);
+        try {
+            new Try(new Catch(IOException.class, exp -> { }))
+                .with(new TryListenerTest.Recorded(events))
+                .with(new Throws<>(IllegalStateException::new))
+                .exec(
+                    () -> {
+                        throw new IOException("io");
+                    }
+                );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final IllegalStateException exp) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains(
+                "start", "failure IOException true",
+                "mapped IllegalStateException"
+            )
+        );
+    }
+
+    /**
+     * Failure of listener on success is not handled by catch blocks.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void doesNotHandleListenerFailure() {
+        final FakeOperations operations = new FakeOperations();
+        try {
+            new Try(
+                new MultiCatch(
+                    new Catch(
+                        IllegalStateException.class,
+                        exp -> operations.exec()
+                    )
+                ),
+                new TryListener() {
+                    @Override
+                    public void onSuccess() {
+                        throw new IllegalStateException("listener");
+                    }
+                }
+            ).exec(() -> 1);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final IllegalStateException exp) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(false)
+        );
+    }
+
+    /**
+     * Listener is notified about failure even if catch block throws.
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void listensToFailureOfThrowingCatch() {
+        final List<String> events = new ArrayList<>(2);
+        final Try tri = new Try(
+            new MultiCatch(
+                new Catch(
+                    IOException.class,
+                    exp -> {
+                        throw new IllegalStateException("catch");
+                    }
+                )
+            ),
+            new TryListenerTest.Recorded(events)
+        );
+        try {
+            tri.exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final IllegalStateException | IOException exp) {
+            new FakeOperations().exec();
+        }
+        try {
+            tri.with(new Throws<>(IllegalArgumentException::new)).exec(
+                () -> {
+                    throw new IOException("io");
+                }
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final IllegalStateException exp) {
+            new FakeOperations().exec();
+        }
+        MatcherAssert.assertThat(
+            events,
+            Matchers.contains(
+                "start", "failure IOException true",
+                "start", "failure IOException true"
+            )
+        );
+    }
+
+    /**
+     * Listener that records events.
+     */
+    private static final class Recorded implements TryListener {
+
+        /**
+         * Events.
+         */
+        private final List<String> events;
+
+        /**
+         * Ctor.
+         * @param evts Events
+         */
+        Recorded(final List<String> evts) {
+            this.events = evts;
+        }
+
+        @Override
+        public void onStart() {
+            this.events.add("start");
+        }
+
+        @Override
+        public void onSuccess() {
+            this.events.add("success");
+        }
+
+        @Override
+        public void onFailure(final Exception exception,
+            final boolean handled) {
+            this.events.add(
+                String.format(
+                    "failure %s %b",
+                    exception.getClass().getSimpleName(), handled
+                )
+            );
+        }
+
+        @Override
+        public void onFinally() {
+            this.events.add("finally");
+        }
+
+        @Override
+        public void onMapped(final Exception exception,
+            final Exception mapped) {
+            this.events.add(
+                String.format("mapped %s", mapped.getClass().getSimpleName())
+            );
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Test case for {@link TryProcessor}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryProcessorTest {
+
+    /**
+     * Drops elements that fail with handled exception and completes.
+     */
+    @Test
+    public void dropsFailedElements() {
+        final TryProcessor<String, Integer> processor = new TryProcessor<>(
+            new MultiCatch(
+                new Catch(
+                    NumberFormatException.class,
+                    exp -> new FakeOperations().exec()
+                )
+            ),
+            Integer::parseInt
+        );
+        final TryProcessorTest.Collected<Integer> collected =
+            new TryProcessorTest.Collected<>();
+        new TryProcessorTest.Iterated<>(
+            new ListOf<>("1", "x", "2", "y", "3")
+        ).subscribe(processor);
+        processor.subscribe(collected);
+        MatcherAssert.assertThat(
+            collected.values(),
+            Matchers.contains(1, 2, 3)
+        );
+        MatcherAssert.assertThat(
+            collected.completed(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Routes failed elements to dead-letter channel.
+     */
+    @Test
+    public void routesFailedElementsToDeadLetters() {
+        final List<String> dead = new ArrayList<>(0);
+        final TryProcessor<String, Integer> processor = new TryProcessor<>(
+            new CollectingFunc<>(
+                new MultiCatch(
+                    new Catch(
+                        NumberFormatException.class,
+                        exp -> new FakeOperations().exec()
+                    )
+                ),
+                Integer::parseInt,
+                (input, exp) -> dead.add(input)
+            ),
+            2
+        );
+        new TryProcessorTest.Iterated<>(
+            new ListOf<>("1", "x", "2")
+        ).subscribe(processor);
+        processor.subscribe(new TryProcessorTest.Collected<>());
+        MatcherAssert.assertThat(dead, Matchers.contains("x"));
+    }
+
+    /**
+     * Unhandled exception terminates the stream.
+     */
+    @Test
+    public void terminatesOnUnhandledException() {
+        final TryProcessor<String, Integer> processor = new TryProcessor<>(
+            new MultiCatch(), Integer::parseInt
+        );
+        final TryProcessorTest.Collected<Integer> collected =
+            new TryProcessorTest.Collected<>();
+        new TryProcessorTest.Iterated<>(
+            new ListOf<>("1", "x", "2")
+        ).subscribe(processor);
+        processor.subscribe(collected);
+        MatcherAssert.assertThat(
+            collected.values(),
+            Matchers.contains(1)
+        );
+        MatcherAssert.assertThat(
+            collected.failed(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Non-positive request terminates the stream with a single error.
+     */
+    @Test
+    public void rejectsNonPositiveRequest() {
+        final TryProcessor<String, Integer> processor = new TryProcessor<>(
+            new MultiCatch(), Integer::parseInt
+        );
+        final List<Throwable> errors = new ArrayList<>(1);
+        new TryProcessorTest.Iterated<>(
+            new ListOf<>("1", "2")
+        ).subscribe(processor);
+        processor.subscribe(
+            new Subscriber<Integer>() {
+                @Override
+                public void onSubscribe(final Subscription sub) {
+                    sub.request(0L);
+                    sub.request(-1L);
+                }
+
+                @Override
+                public void onNext(final Integer value) {
+                    errors.add(new IllegalStateException("unexpected"));
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    errors.add(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    errors.add(new IllegalStateException("completed"));
+                }
+            }
+        );
+        MatcherAssert.assertThat(errors.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            errors.get(0), Matchers.instanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    /**
+     * Synchronous publisher of list elements that respects demand.
+     * @param <T> Element
+     */
+    private static final class Iterated<T> implements Publisher<T> {
+
+        /**
+         * Elements.
+         */
+        private final List<T> elements;
+
+        /**
+         * Ctor.
+         * @param list Elements
+         */
+        Iterated(final List<T> list) {
+            this.elements = list;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super T> subscriber) {
+            final Iterator<T> iterator = this.elements.iterator();
+            subscriber.onSubscribe(
+                new Subscription() {
+                    private boolean cancelled;
+
+                    @Override
+                    public void request(final long count) {
+                        long left = count;
+                        while (left > 0L && !this.cancelled
+                            && iterator.hasNext()) {
+                            subscriber.onNext(iterator.next());
+                            left -= 1L;
+                        }
+                        if (!this.cancelled && !iterator.hasNext()) {
+                            this.cancelled = true;
+                            subscriber.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        this.cancelled = true;
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Subscriber that requests one element at a time.
+     * @param <T> Element
+     */
+    private static final class Collected<T> implements Subscriber<T> {
+
+        /**
+         * Received elements.
+         */
+        private final List<T> received = new ArrayList<>(0);
+
+        /**
+         * Subscription.
+         */
+        private Subscription subscription;
+
+        /**
+         * Whether stream completed.
+         */
+        private boolean complete;
+
+        /**
+         * Whether stream failed.
+         */
+        private boolean error;
+
+        @Override
+        public void onSubscribe(final Subscription sub) {
+            this.subscription = sub;
+            sub.request(1L);
+        }
+
+        @Override
+        public void onNext(final T value) {
+            this.received.add(value);
+            this.subscription.request(1L);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = true;
+        }
+
+        @Override
+        public void onComplete() {
+            this.complete = true;
+        }
+
+        /**
+         * Received elements.
+         * @return List Elements
+         */
+        public List<T> values() {
+            return this.received;
+        }
+
+        /**
+         * Whether stream completed.
+         * @return Boolean Boolean
+         */
+        public boolean completed() {
+            return this.complete;
+        }
+
+        /**
+         * Whether stream failed.
+         * @return Boolean Boolean
+         */
+        public boolean failed() {
+            return this.error;
+        }
+    }
+}
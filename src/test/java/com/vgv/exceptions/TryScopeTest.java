@@ -0,0 +1,168 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018 Vedran Grgo Vatavuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.vgv.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TryScope}.
+ * @author Vedran Vatavuk (123vgv@gmail.com)
+ * @version $Id$
+ * @since 1.0
+ */
+public final class TryScopeTest {
+
+    /**
+     * Joins values in the order scalars were forked and executes finally
+     * block.
+     * @throws Exception Exception
+     */
+    @Test
+    public void joinsValues() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final FakeOperations operations = new FakeOperations();
+        final TryScope<String, IOException> scope = new TryScope<>(
+            executor, new MultiCatch(), new MultiCatch(),
+            new Finally(operations::exec)
+        );
+        scope.fork(() -> "a");
+        scope.fork(() -> "b");
+        MatcherAssert.assertThat(scope.join(), Matchers.contains("a", "b"));
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+        executor.shutdown();
+    }
+
+    /**
+     * Scalars dropped by the executor are executed by the joining thread.
+     * @throws Exception Exception
+     */
+    @Test
+    public void executesDroppedScalars() throws Exception {
+        final TryScope<String, IOException> scope = new TryScope<>(
+            runnable -> { }, new MultiCatch(), new MultiCatch()
+        );
+        scope.fork(() -> "a");
+        scope.fork(() -> "b");
+        MatcherAssert.assertThat(scope.join(), Matchers.contains("a", "b"));
+    }
+
+    /**
+     * Fatal failure cancels other scalars and is thrown by join.
+     * @throws Exception Exception
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void cancelsScopeOnFatalFailure() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final TryScope<String, Exception> scope = new TryScope<>(
+            executor, new MultiCatch(),
+            new MultiCatch(new Catch(IOException.class, exp -> { }))
+        );
+        final Future<String> slow = scope.fork(
+            () -> {
+                latch.await();
+                return "slow";
+            }
+        );
+        scope.fork(
+            () -> {
+                throw new IOException("fatal");
+            }
+        );
+        Exception failure = new IllegalStateException("none");
+        try {
+            scope.join();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            failure = exp;
+        }
+        MatcherAssert.assertThat(
+            failure.getMessage(),
+            Matchers.equalTo("fatal")
+        );
+        MatcherAssert.assertThat(slow.isCancelled(), Matchers.equalTo(true));
+        executor.shutdownNow();
+    }
+
+    /**
+     * Join waits for a cancelled scalar that is still running before it
+     * executes finally block.
+     * @throws Exception Exception
+     */
+    @Test
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void waitsForCancelledScalar() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean order = new AtomicBoolean();
+        final TryScope<String, Exception> scope = new TryScope<>(
+            executor, new MultiCatch(),
+            new MultiCatch(new Catch(IOException.class, exp -> { })),
+            () -> order.set(done.get())
+        );
+        scope.fork(
+            () -> {
+                started.countDown();
+                final long end = System.nanoTime()
+                    + TimeUnit.MILLISECONDS.toNanos(100L);
+                while (System.nanoTime() - end < 0L) {
+                    Thread.yield();
+                }
+                done.set(true);
+                return "stubborn";
+            }
+        );
+        started.await();
+        scope.fork(
+            () -> {
+                throw new IOException("fatal");
+            }
+        );
+        try {
+            scope.join();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception exp) {
+            MatcherAssert.assertThat(
+                exp.getMessage(),
+                Matchers.equalTo("fatal")
+            );
+        }
+        MatcherAssert.assertThat(order.get(), Matchers.equalTo(true));
+        executor.shutdown();
+    }
+}
@@ -209,6 +209,95 @@ public final class TryTest {
         );
     }
 
+    /**
+     * Attempt handles exception and returns failed outcome.
+     */
+    @Test
+    public void attemptReturnsHandledFailure() {
+        final FakeOperations operations = new FakeOperations();
+        final Outcome<String> outcome = new Try(
+            new Catch(IOException.class, e -> operations.exec())
+        ).attempt(
+            () -> {
+                throw new FileNotFoundException("file not found");
+            });
+        MatcherAssert.assertThat(
+            outcome.failure().get(),
+            Matchers.instanceOf(FileNotFoundException.class)
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Attempt returns successful outcome and executes finally block.
+     * @throws Exception Exception
+     */
+    @Test
+    public void attemptReturnsValueAndExecutesFinallyBlock()
+        throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        final String expected = "value";
+        MatcherAssert.assertThat(
+            new Try().with(new Finally(operations::exec))
+                .attempt(() -> expected).value(),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Primitive scalar execution returns value and executes finally block.
+     * @throws Exception Exception
+     */
+    @Test
+    public void executesIntScalarWithFinallyBlock() throws Exception {
+        final FakeOperations operations = new FakeOperations();
+        final int expected = 2;
+        MatcherAssert.assertThat(
+            new Try().with(new Finally(operations::exec))
+                .execInt(() -> expected),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            operations.isExecuted(),
+            Matchers.equalTo(true)
+        );
+    }
+
+    /**
+     * Primitive scalar execution throws Exception and is mapped
+     * to IOException.
+     * @throws IOException IOException
+     */
+    @Test(expected = IOException.class)
+    public void longScalarExecutionThrowsIoException() throws IOException {
+        new Try().with(new Throws<>(IOException::new))
+            .execLong(
+                () -> {
+                    throw new Exception("exp");
+                });
+    }
+
+    /**
+     * Primitive scalar execution throws runtime exception and goes through.
+     * @throws IOException IOException
+     */
+    @Test(expected = IllegalStateException.class)
+    public void booleanScalarExecutionThrowsRuntimeException()
+        throws IOException {
+        new Try().with(new Throws<>(IOException::new))
+            .execBoolean(
+                () -> {
+                    throw new IllegalStateException("illegal");
+                });
+    }
+
     /**
      * Throw runtime exception.
      */
@@ -55,6 +55,18 @@ public final class UncheckedTryTest {
         new UncheckedTry(new Try()).exec(UncheckedTryTest::throwIoException);
     }
 
+    /**
+     * Throw runtime exception when primitive scalar execution throws
+     * checked exception.
+     */
+    @Test(expected = UncheckedIOException.class)
+    public void doubleScalarExecutionThrowsRuntimeException() {
+        new UncheckedTry(new Try()).execDouble(
+            () -> {
+                throw new IOException("msg");
+            });
+    }
+
     /**
      * Throw IOException.
      * @throws IOException IOException